@@ -0,0 +1,386 @@
+package org.jactors.junit.helper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Method handle based member access backend. Resolved fields and methods are converted once into
+ * generic method handles that are cached per member. Accesses that core reflection would reject or
+ * convert (inaccessible members, final fields, incompatible targets or arguments, widening
+ * conversions) are delegated to core reflection to report the same failures.
+ */
+final class HandleBackend extends AccessHelper.Backend {
+
+    /**
+     * Method type of generic field getter handles.
+     */
+    private static final MethodType TYPE_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Method type of generic field setter handles.
+     */
+    private static final MethodType TYPE_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Lookup used to convert accessible members into method handles.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Cache of field getter handles.
+     */
+    private final AccessHelper.Cache<MethodHandle> getters = new AccessHelper.Cache<MethodHandle>();
+
+    /**
+     * Cache of field setter handles.
+     */
+    private final AccessHelper.Cache<MethodHandle> setters = new AccessHelper.Cache<MethodHandle>();
+
+    /**
+     * Cache of method invoker handles.
+     */
+    private final AccessHelper.Cache<MethodHandle> invokers = new AccessHelper.Cache<MethodHandle>();
+
+    /**
+     * Cache of fixed arity method invokers.
+     */
+    private final AccessHelper.Cache<Exact> exacts = new AccessHelper.Cache<Exact>();
+
+    /**
+     * {@inheritDoc}
+     */
+    protected Object get(Object target, Field field) throws Exception {
+        if (!field.isAccessible() || !HandleBackend.target(target, field)) {
+            return AccessHelper.Backend.REFLECT.get(target, field);
+        }
+        MethodHandle handle = this.getter(field);
+        try {
+            return handle.invokeExact(target);
+        } catch (Throwable failure) {
+            throw HandleBackend.failure(failure);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected void set(Object target, Field field, Object value) throws Exception {
+        if (!field.isAccessible() || Modifier.isFinal(field.getModifiers()) //
+                || !HandleBackend.target(target, field) || !HandleBackend.value(field.getType(), value)) {
+            AccessHelper.Backend.REFLECT.set(target, field, value);
+            return;
+        }
+        MethodHandle handle = this.setter(field);
+        try {
+            handle.invokeExact(target, value);
+        } catch (Throwable failure) {
+            throw HandleBackend.failure(failure);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected Object invoke(Object target, Method method, Object[] args) throws Exception {
+        if (!method.isAccessible() || !HandleBackend.target(target, method) //
+                || !HandleBackend.args(method.getParameterTypes(), args)) {
+            return AccessHelper.Backend.REFLECT.invoke(target, method, args);
+        }
+        MethodHandle handle = this.invoker(method);
+        try {
+            return handle.invokeExact(target, args);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected Object invoke0(Object target, Method method) throws Exception {
+        Exact exact = this.exact(method, 0);
+        if ((exact == null) || !HandleBackend.target(target, method)) {
+            return super.invoke0(target, method);
+        }
+        try {
+            return exact.handle.invokeExact(target);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected Object invoke1(Object target, Method method, Object arg0) throws Exception {
+        Exact exact = this.exact(method, 1);
+        if ((exact == null) || !HandleBackend.target(target, method) || !exact.accepts(0, arg0)) {
+            return super.invoke1(target, method, arg0);
+        }
+        try {
+            return exact.handle.invokeExact(target, arg0);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected Object invoke2(Object target, Method method, Object arg0, Object arg1) throws Exception {
+        Exact exact = this.exact(method, 2);
+        if ((exact == null) || !HandleBackend.target(target, method) || !exact.accepts(0, arg0)
+                || !exact.accepts(1, arg1)) {
+            return super.invoke2(target, method, arg0, arg1);
+        }
+        try {
+            return exact.handle.invokeExact(target, arg0, arg1);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected Object invoke3(Object target, Method method, Object arg0, Object arg1, Object arg2)
+        throws Exception {
+        Exact exact = this.exact(method, 3);
+        if ((exact == null) || !HandleBackend.target(target, method) || !exact.accepts(0, arg0)
+                || !exact.accepts(1, arg1) || !exact.accepts(2, arg2)) {
+            return super.invoke3(target, method, arg0, arg1, arg2);
+        }
+        try {
+            return exact.handle.invokeExact(target, arg0, arg1, arg2);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    /**
+     * Resolve cached generic getter handle for given declared field.
+     *
+     * @param   field  declared field.
+     *
+     * @return  generic getter handle.
+     *
+     * @throws  IllegalAccessException  if field is not accessible.
+     */
+    private MethodHandle getter(Field field) throws IllegalAccessException {
+        Reference<MethodHandle> cached = this.getters.get(field.getDeclaringClass(), field);
+        MethodHandle handle = (cached != null) ? cached.get() : null;
+        if (handle == null) {
+            handle = LOOKUP.unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = this.getters.put(field.getDeclaringClass(), field, handle.asType(TYPE_GETTER));
+        }
+        return handle;
+    }
+
+    /**
+     * Resolve cached generic setter handle for given declared field.
+     *
+     * @param   field  declared field.
+     *
+     * @return  generic setter handle.
+     *
+     * @throws  IllegalAccessException  if field is not accessible.
+     */
+    private MethodHandle setter(Field field) throws IllegalAccessException {
+        Reference<MethodHandle> cached = this.setters.get(field.getDeclaringClass(), field);
+        MethodHandle handle = (cached != null) ? cached.get() : null;
+        if (handle == null) {
+            handle = LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = this.setters.put(field.getDeclaringClass(), field, handle.asType(TYPE_SETTER));
+        }
+        return handle;
+    }
+
+    /**
+     * Resolve cached generic invoker handle for given declared method. The invoker handle takes
+     * the target object and the call argument array and returns the result object.
+     *
+     * @param   method  declared method.
+     *
+     * @return  generic invoker handle.
+     *
+     * @throws  IllegalAccessException  if method is not accessible.
+     */
+    private MethodHandle invoker(Method method) throws IllegalAccessException {
+        Reference<MethodHandle> cached = this.invokers.get(method.getDeclaringClass(), method);
+        MethodHandle handle = (cached != null) ? cached.get() : null;
+        if (handle == null) {
+            int count = method.getParameterTypes().length;
+            handle = LOOKUP.unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(MethodType.genericMethodType(count + 1)).asSpreader(Object[].class, count);
+            handle = this.invokers.put(method.getDeclaringClass(), method, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Resolve cached fixed arity invoker for given declared method and given number of call
+     * arguments. If the method is not accessible or does not take the given number of call
+     * arguments, {@code null} is returned.
+     *
+     * @param   method  declared method.
+     * @param   count   number of call arguments.
+     *
+     * @return  fixed arity invoker (may be null).
+     *
+     * @throws  IllegalAccessException  if method is not accessible.
+     */
+    private Exact exact(Method method, int count) throws IllegalAccessException {
+        if (!method.isAccessible()) {
+            return null;
+        }
+        Reference<Exact> cached = this.exacts.get(method.getDeclaringClass(), method);
+        Exact exact = (cached != null) ? cached.get() : null;
+        if (exact == null) {
+            exact = this.exacts.put(method.getDeclaringClass(), method, new Exact(method));
+        }
+        return (exact.types.length == count) ? exact : null;
+    }
+
+    /**
+     * Check whether given target object is a valid target for given declared member.
+     *
+     * @param   target  target object (null for static members).
+     * @param   member  declared member.
+     *
+     * @return  whether given target object is a valid target.
+     */
+    private static boolean target(Object target, Member member) {
+        return Modifier.isStatic(member.getModifiers()) || member.getDeclaringClass().isInstance(target);
+    }
+
+    /**
+     * Check whether given call arguments can be passed without conversion to parameters of given
+     * parameter types.
+     *
+     * @param   types  parameter types.
+     * @param   args   call arguments (may be null).
+     *
+     * @return  whether given call arguments can be passed without conversion.
+     */
+    private static boolean args(Class<?>[] types, Object[] args) {
+        if (args == null) {
+            return types.length == 0;
+        } else if (args.length != types.length) {
+            return false;
+        }
+        for (int index = 0; index < types.length; index++) {
+            if (!HandleBackend.value(types[index], args[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether given value can be assigned without conversion to given class type.
+     *
+     * @param   type   class type.
+     * @param   value  value (may be null).
+     *
+     * @return  whether given value can be assigned without conversion.
+     */
+    private static boolean value(Class<?> type, Object value) {
+        if (type.isPrimitive()) {
+            return (value != null) && (AccessHelper.Classes.box(type) == value.getClass());
+        }
+        return (value == null) || type.isInstance(value);
+    }
+
+    /**
+     * Convert given throwable raised by a field handle into a checked exception.
+     *
+     * @param   failure  raised throwable.
+     *
+     * @return  exception to throw.
+     */
+    private static Exception failure(Throwable failure) {
+        if (failure instanceof Exception) {
+            return (Exception) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new InvocationTargetException(failure);
+    }
+
+    /**
+     * Fixed arity method invoker consisting of a generic method handle taking the target object
+     * and the call arguments as separate parameters and the boxed parameter types of the method
+     * used to check call arguments without allocation.
+     */
+    private static final class Exact {
+
+        /**
+         * Generic fixed arity invoker handle.
+         */
+        private final MethodHandle handle;
+
+        /**
+         * Boxed parameter types of declared method.
+         */
+        private final Class<?>[] types;
+
+        /**
+         * Flags whether parameter types of declared method are primitive.
+         */
+        private final boolean[] primitives;
+
+        /**
+         * Create fixed arity method invoker for given declared method.
+         *
+         * @param   method  declared method.
+         *
+         * @throws  IllegalAccessException  if method is not accessible.
+         */
+        private Exact(Method method) throws IllegalAccessException {
+            Class<?>[] types = method.getParameterTypes();
+            MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            this.handle = handle.asType(MethodType.genericMethodType(types.length + 1));
+            this.primitives = new boolean[types.length];
+            for (int index = 0; index < types.length; index++) {
+                this.primitives[index] = types[index].isPrimitive();
+                types[index] = this.primitives[index] ? AccessHelper.Classes.box(types[index]) : types[index];
+            }
+            this.types = types;
+        }
+
+        /**
+         * Check whether given call argument can be passed without conversion to the parameter
+         * with given parameter index.
+         *
+         * @param   index  parameter index.
+         * @param   value  call argument (may be null).
+         *
+         * @return  whether given call argument can be passed without conversion.
+         */
+        public boolean accepts(int index, Object value) {
+            if (this.primitives[index]) {
+                return (value != null) && (this.types[index] == value.getClass());
+            }
+            return (value == null) || this.types[index].isInstance(value);
+        }
+    }
+}
@@ -57,6 +57,33 @@ public @interface Property {
      */
     public static final class Checker {
 
+        /**
+         * Instantiation strategy used for creating changed property values.
+         */
+        private final AccessHelper.Objects.Strategy strategy;
+
+        /**
+         * Create property checker creating changed property values using the declared default
+         * constructor only.
+         */
+        public Checker() {
+            this(AccessHelper.Objects.Strategy.CONSTRUCTOR);
+        }
+
+        /**
+         * Create property checker creating changed property values using given instantiation
+         * strategy, e.g. {@link AccessHelper.Objects.Strategy#AUTO} to allocate values of class
+         * types without default constructor instead of failing.
+         *
+         * @param  strategy  instantiation strategy.
+         */
+        public Checker(AccessHelper.Objects.Strategy strategy) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("strategy must not be null");
+            }
+            this.strategy = strategy;
+        }
+
         /**
          * Check/validated properties for given property target object using given property
          * configuration object.
@@ -129,7 +156,7 @@ public @interface Property {
                 BeanHelper.Accessor<?> accessor = BeanHelper.create(target.getClass(), property);
                 if (Helper.valid(accessor)) {
                     Expect.Rule expect = new Expect.Rule();
-                    Object value = Helper.value(property, accessor.get(target));
+                    Object value = Helper.value(property, accessor.get(target), this.strategy);
                     atoms.add(Helper.create(property, accessor, expect, value));
                 }
             }
@@ -299,11 +326,13 @@ public @interface Property {
              *
              * @param   property  property definition.
              * @param   value     actual property value.
+             * @param   strategy  instantiation strategy for other class types.
              *
              * @return  changed property value.
              */
             @SuppressWarnings("unchecked")
-            protected static Object value(BeanHelper.Property<?> property, Object value) {
+            protected static Object value(BeanHelper.Property<?> property, Object value,
+                    AccessHelper.Objects.Strategy strategy) {
                 Class<?> type = property.type();
                 if (type.isArray()) {
                     return Array.newInstance(type.getComponentType(), 1);
@@ -346,7 +375,7 @@ public @interface Property {
                     return new Date(System.currentTimeMillis());
                 }
                 try {
-                    return AccessHelper.Objects.create(type, new Class[] {}, new Object[] {});
+                    return AccessHelper.Objects.instantiate(type, strategy);
                 } catch (RuntimeException except) {
                     Assert.fail("unable to create value [type=" + type.getName() + ", property=" + property + "]");
                 }
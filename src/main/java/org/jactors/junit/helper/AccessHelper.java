@@ -1,30 +1,49 @@
 package org.jactors.junit.helper;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 /**
@@ -97,23 +116,6 @@ public abstract class AccessHelper {
      */
     private static abstract class Base {
 
-        /**
-         * Group index of bean path.
-         */
-        public static final int PATH_BEAN = 1;
-
-        /**
-         * Group index of list path.
-         */
-        public static final int PATH_LIST = 4;
-
-        /**
-         * Pattern for matching property path.
-         */
-        public static final Pattern PATH = //
-            Pattern.compile("\\(?((?<=\\()[^=,]*=[^\\)]+(?=\\))|([^=,]+=)?[^.,\\(\\)\\[\\]]+)\\)?"
-                + "((?<!\\\\)\\[(.*?)?(?<!\\\\)\\](?!\\[))*+(\\.|,)?");
-
         /**
          * Pattern for matching property lists.
          */
@@ -165,6 +167,405 @@ public abstract class AccessHelper {
         }
     }
 
+    /**
+     * Resolution cache mapping class types and lookup keys to resolved values. Class types are
+     * weakly referenced and values are softly referenced, so that neither prevents class (loader)
+     * unloading. Failed lookups are remembered using a {@code null} value. Cache reads do not lock,
+     * since class types are mapped by a concurrent map using weak class type keys that are probed
+     * by class type identity and expunged on write once the class type has been unloaded. Generic
+     * types can be used as class types likewise, i.e. they are weakly referenced and compared by
+     * identity, so that they do not keep the class types they refer to alive.
+     *
+     * @param  <Value>  cached value type.
+     */
+    static final class Cache<Value> {
+
+        /**
+         * Reference used to remember failed lookups.
+         */
+        private static final Reference<Object> NONE = new SoftReference<Object>(null);
+
+        /**
+         * Class type to lookup key value mapping.
+         */
+        private final ConcurrentMap<Object, ConcurrentMap<Object, Reference<Value>>> map = //
+            new ConcurrentHashMap<Object, ConcurrentMap<Object, Reference<Value>>>();
+
+        /**
+         * Reference queue of class type keys of unloaded class types.
+         */
+        private final ReferenceQueue<java.lang.reflect.Type> queue = new ReferenceQueue<java.lang.reflect.Type>();
+
+        /**
+         * Return cached value reference for given class type and given lookup key. If the lookup
+         * is unknown {@code null} is returned. Since the value may be cleared at any time, callers
+         * must dereference the value only once and treat a cleared value as unknown lookup unless
+         * the lookup is remembered as {@link #failed(Reference) failed}.
+         *
+         * @param   type  class type.
+         * @param   key   lookup key.
+         *
+         * @return  cached value reference (may be null).
+         */
+        public Reference<Value> get(java.lang.reflect.Type type, Object key) {
+            Map<Object, Reference<Value>> values = this.map.get(new Probe(type));
+            return (values != null) ? values.get(key) : null;
+        }
+
+        /**
+         * Remember given value (may be null) for given class type and given lookup key and return
+         * the value.
+         *
+         * @param   type   class type.
+         * @param   key    lookup key.
+         * @param   value  resolved value (may be null).
+         *
+         * @return  resolved value.
+         */
+        @SuppressWarnings("unchecked")
+        public Value put(java.lang.reflect.Type type, Object key, Value value) {
+            ConcurrentMap<Object, Reference<Value>> values = this.map.get(new Probe(type));
+            if (values == null) {
+                this.expunge();
+                values = new ConcurrentHashMap<Object, Reference<Value>>();
+                ConcurrentMap<Object, Reference<Value>> other = this.map.putIfAbsent(new Key(type, this.queue), values);
+                if (other != null) {
+                    values = other;
+                }
+            }
+            values.put(key, (value != null) ? new SoftReference<Value>(value) : (Reference<Value>) (Reference<?>) NONE);
+            return value;
+        }
+
+        /**
+         * Remove mappings of all class type keys of unloaded class types.
+         */
+        private void expunge() {
+            Reference<? extends java.lang.reflect.Type> key = this.queue.poll();
+            while (key != null) {
+                this.map.remove(key);
+                key = this.queue.poll();
+            }
+        }
+
+        /**
+         * Return whether given cached value reference (may be null) remembers a failed lookup.
+         *
+         * @param   cached  cached value reference (may be null).
+         *
+         * @return  whether the cached value reference remembers a failed lookup.
+         */
+        public static boolean failed(Reference<?> cached) {
+            return cached == NONE;
+        }
+
+        /**
+         * Weak class type key comparing equal to class type keys and probes of the same class type.
+         */
+        private static final class Key extends WeakReference<java.lang.reflect.Type> {
+
+            /**
+             * Identity hash code of class type.
+             */
+            private final int hash;
+
+            /**
+             * Create weak class type key for given class type registered with given reference
+             * queue.
+             *
+             * @param  type   class type.
+             * @param  queue  reference queue.
+             */
+            private Key(java.lang.reflect.Type type, ReferenceQueue<java.lang.reflect.Type> queue) {
+                super(type, queue);
+                this.hash = System.identityHashCode(type);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public int hashCode() {
+                return this.hash;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean equals(Object that) {
+                if (this == that) {
+                    return true;
+                } else if (that instanceof Probe) {
+                    return ((Probe) that).type == this.get();
+                } else if (that instanceof Key) {
+                    java.lang.reflect.Type type = this.get();
+                    return (type != null) && (type == ((Key) that).get());
+                }
+                return false;
+            }
+        }
+
+        /**
+         * Strong class type probe used for looking up weak class type keys without allocating a
+         * reference.
+         */
+        private static final class Probe {
+
+            /**
+             * Probed class type.
+             */
+            private final java.lang.reflect.Type type;
+
+            /**
+             * Create class type probe for given class type.
+             *
+             * @param  type  class type.
+             */
+            private Probe(java.lang.reflect.Type type) {
+                this.type = type;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public int hashCode() {
+                return System.identityHashCode(this.type);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean equals(Object that) {
+                if (that instanceof Key) {
+                    return ((Key) that).get() == this.type;
+                } else if (that instanceof Probe) {
+                    return ((Probe) that).type == this.type;
+                }
+                return false;
+            }
+        }
+
+        /**
+         * Create lookup key for given member name (may be null) and given member argument types.
+         *
+         * @param   name   member name (may be null).
+         * @param   types  member argument types.
+         *
+         * @return  lookup key.
+         */
+        public static Object key(String name, Class<?>... types) {
+            Object[] key = new Object[types.length + 1];
+            System.arraycopy(types, 0, key, 1, types.length);
+            key[0] = name;
+            return Arrays.asList(key);
+        }
+    }
+
+    /**
+     * Member access backend used to read and write resolved fields and to invoke resolved methods.
+     * Per default a method handle based backend is used if supported by the runtime, otherwise the
+     * backend falls back to core reflection. Backends must report failures the same way as core
+     * reflection does, i.e. exceptions raised by invoked methods are wrapped into an {@link
+     * InvocationTargetException}.
+     */
+    public static abstract class Backend {
+
+        /**
+         * Class name of method handle based backend.
+         */
+        private static final String NAME_HANDLE = "org.jactors.junit.helper.HandleBackend";
+
+        /**
+         * Core reflection based backend.
+         */
+        public static final Backend REFLECT = new Reflect();
+
+        /**
+         * Actual backend used for member access.
+         */
+        private static volatile Backend actual = Backend.create();
+
+        /**
+         * Create default backend. If the method handle based backend is not available or not
+         * supported by the runtime, the core reflection based backend is returned.
+         *
+         * @return  default backend.
+         */
+        private static Backend create() {
+            try {
+                Class<Backend> type = Classes.resolve(Backend.class.getClassLoader(), //
+                        NAME_HANDLE, Failure.Mode.RETURN_NULL);
+                Backend backend = (type != null) //
+                    ? Objects.create(type, Failure.Mode.RETURN_NULL, Base.EMPTY_TYPES) : null;
+                return (backend != null) ? backend : REFLECT;
+            } catch (LinkageError error) {
+                return REFLECT;
+            }
+        }
+
+        /**
+         * Return actual backend used for member access.
+         *
+         * @return  actual backend.
+         */
+        public static Backend actual() {
+            return Backend.actual;
+        }
+
+        /**
+         * Install given backend for member access and return previous backend. If the given backend
+         * is {@code null} the default backend is installed.
+         *
+         * @param   backend  backend for member access (may be null).
+         *
+         * @return  previous backend.
+         */
+        public static Backend install(Backend backend) {
+            Backend before = Backend.actual;
+            Backend.actual = (backend != null) ? backend : Backend.create();
+            return before;
+        }
+
+        /**
+         * Read value of given declared field from given target object (null for static fields).
+         *
+         * @param   target  target object (null for static fields).
+         * @param   field   declared field.
+         *
+         * @return  field value.
+         *
+         * @throws  Exception  if field cannot be read.
+         */
+        protected abstract Object get(Object target, Field field) throws Exception;
+
+        /**
+         * Write given value to given declared field on given target object (null for static
+         * fields).
+         *
+         * @param   target  target object (null for static fields).
+         * @param   field   declared field.
+         * @param   value   field value.
+         *
+         * @throws  Exception  if field cannot be written.
+         */
+        protected abstract void set(Object target, Field field, Object value) throws Exception;
+
+        /**
+         * Invoke given declared method on given target object (null for static methods) using
+         * given call arguments and return result object.
+         *
+         * @param   target  target object (null for static methods).
+         * @param   method  declared method.
+         * @param   args    call arguments.
+         *
+         * @return  result object.
+         *
+         * @throws  Exception  if method cannot be invoked or throws an exception.
+         */
+        protected abstract Object invoke(Object target, Method method, Object[] args) throws Exception;
+
+        /**
+         * Invoke given declared method without call arguments on given target object (null for
+         * static methods) and return result object. Backends may override this method to avoid
+         * allocating a call argument array.
+         *
+         * @param   target  target object (null for static methods).
+         * @param   method  declared method.
+         *
+         * @return  result object.
+         *
+         * @throws  Exception  if method cannot be invoked or throws an exception.
+         */
+        protected Object invoke0(Object target, Method method) throws Exception {
+            return this.invoke(target, method, Base.EMPTY_ARGS);
+        }
+
+        /**
+         * Invoke given declared method with one call argument on given target object (null for
+         * static methods) and return result object. Backends may override this method to avoid
+         * allocating a call argument array.
+         *
+         * @param   target  target object (null for static methods).
+         * @param   method  declared method.
+         * @param   arg0    first call argument.
+         *
+         * @return  result object.
+         *
+         * @throws  Exception  if method cannot be invoked or throws an exception.
+         */
+        protected Object invoke1(Object target, Method method, Object arg0) throws Exception {
+            return this.invoke(target, method, new Object[] { arg0 });
+        }
+
+        /**
+         * Invoke given declared method with two call arguments on given target object (null for
+         * static methods) and return result object. Backends may override this method to avoid
+         * allocating a call argument array.
+         *
+         * @param   target  target object (null for static methods).
+         * @param   method  declared method.
+         * @param   arg0    first call argument.
+         * @param   arg1    second call argument.
+         *
+         * @return  result object.
+         *
+         * @throws  Exception  if method cannot be invoked or throws an exception.
+         */
+        protected Object invoke2(Object target, Method method, Object arg0, Object arg1) throws Exception {
+            return this.invoke(target, method, new Object[] { arg0, arg1 });
+        }
+
+        /**
+         * Invoke given declared method with three call arguments on given target object (null for
+         * static methods) and return result object. Backends may override this method to avoid
+         * allocating a call argument array.
+         *
+         * @param   target  target object (null for static methods).
+         * @param   method  declared method.
+         * @param   arg0    first call argument.
+         * @param   arg1    second call argument.
+         * @param   arg2    third call argument.
+         *
+         * @return  result object.
+         *
+         * @throws  Exception  if method cannot be invoked or throws an exception.
+         */
+        protected Object invoke3(Object target, Method method, Object arg0, Object arg1, Object arg2)
+            throws Exception {
+            return this.invoke(target, method, new Object[] { arg0, arg1, arg2 });
+        }
+
+        /**
+         * Core reflection based backend.
+         */
+        private static final class Reflect extends Backend {
+
+            /**
+             * {@inheritDoc}
+             */
+            protected Object get(Object target, Field field) throws Exception {
+                return field.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            protected void set(Object target, Field field, Object value) throws Exception {
+                field.set(target, value);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            protected Object invoke(Object target, Method method, Object[] args) throws Exception {
+                return method.invoke(target, args);
+            }
+        }
+    }
+
     /**
      * Generic object tree builder using a stack pattern to allow creation of abitrary object trees
      * in a fluent way for testing.
@@ -302,6 +703,21 @@ public abstract class AccessHelper {
          */
         private final Type type;
 
+        /**
+         * Flag whether stack trace of failure has been captured.
+         */
+        private transient boolean traced;
+
+        /**
+         * Failure message details to be rendered (may be null).
+         */
+        private transient Object detail;
+
+        /**
+         * Rendered failure message (null if not rendered yet).
+         */
+        private String message;
+
         /**
          * Failure type enumeration.
          */
@@ -433,15 +849,16 @@ public abstract class AccessHelper {
          * Create failure with given failure type, given failure message, and given failure cause.
          *
          * @param  type     failure type.
-         * @param  message  failure message.
+         * @param  message  failure message (may be rendered lazily, see {@link Helper.Message}).
          * @param  cause    failure cause.
          */
-        private Failure(Type type, String message, Throwable cause) {
-            super(Failure.message(type, message), cause);
+        private Failure(Type type, Object message, Throwable cause) {
+            super(null, cause);
             if (type == null) {
                 throw new IllegalArgumentException("type must not be null");
             }
             this.type = type;
+            this.detail = message;
         }
 
         /**
@@ -452,10 +869,24 @@ public abstract class AccessHelper {
          *
          * @return  failure exception.
          */
-        protected static Failure create(Type type, String message) {
+        protected static Failure create(Type type, Object message) {
             return Failure.strip(new Failure(type, message, null), 1);
         }
 
+        /**
+         * Create lightweight failure with given failure type and given failure message for internal
+         * control flow. In contrast to {@link #create(Type, Object)} the failure captures no stack
+         * trace, and thus must be caught and handled or wrapped before it leaves the helper.
+         *
+         * @param   type     failure type.
+         * @param   message  failure message.
+         *
+         * @return  failure exception.
+         */
+        protected static Failure probe(Type type, String message) {
+            return new Failure(type, message, null);
+        }
+
         /**
          * Create type not supported failure with given class type.
          *
@@ -508,6 +939,19 @@ public abstract class AccessHelper {
             return Failure.strip(Failure.wrap(Style.WRAPPED, message, cause), 2);
         }
 
+        /**
+         * Create wrapped failure using default failure mapping style with given lazily rendered
+         * failure message details and failure type derived from given failure cause.
+         *
+         * @param   message  failure message details.
+         * @param   cause    failure cause.
+         *
+         * @return  failure exception.
+         */
+        protected static Failure create(Helper.Message message, Throwable cause) {
+            return Failure.strip(Failure.wrap(Style.WRAPPED, message, cause), 2);
+        }
+
         /**
          * Create failure using given failure mapping style with given failure message and failure
          * type derived from given failure cause.
@@ -518,7 +962,7 @@ public abstract class AccessHelper {
          *
          * @return  failure exception.
          */
-        protected static Failure create(Style style, String message, Throwable cause) {
+        protected static Failure create(Style style, Object message, Throwable cause) {
             return Failure.strip(Failure.wrap(style, message, cause), 2);
         }
 
@@ -532,7 +976,7 @@ public abstract class AccessHelper {
          *
          * @return  failure exception.
          */
-        private static Failure wrap(Style style, String message, Throwable cause) {
+        private static Failure wrap(Style style, Object message, Throwable cause) {
             if (cause instanceof Failure) {
                 Failure failure = (Failure) cause;
                 if (UNWRAPPED.contains(failure.getType())) {
@@ -575,20 +1019,48 @@ public abstract class AccessHelper {
         }
 
         /**
-         * Strip stack trace for given number of entries of given failure exception to show actual
-         * failure source as first position in stack trace.
+         * Strip stack trace of given failure exception to show actual failure source as first
+         * position in stack trace. If the stack trace of the failure has not been captured yet, it
+         * is captured now and stripped from all failure helper entries, else it is stripped for
+         * given number of entries.
          *
          * @param   failure  failure exception.
-         * @param   entries  number of entries.
+         * @param   entries  number of entries (used for already captured stack traces).
          *
          * @return  failure exception.
          */
         private static Failure strip(Failure failure, int entries) {
+            if (!failure.traced) {
+                StackTraceElement[] trace = failure.fillInStackTrace().getStackTrace();
+                entries = 0;
+                while ((entries < trace.length) && (trace[entries].getClassName().equals(Failure.class.getName())
+                            || trace[entries].getClassName().equals(Throwable.class.getName()))) {
+                    entries++;
+                }
+                failure.setStackTrace(Arrays.copyOfRange(trace, entries, trace.length));
+                return failure;
+            }
             StackTraceElement[] trace = failure.getStackTrace();
             failure.setStackTrace(Arrays.copyOfRange(trace, entries, trace.length));
             return failure;
         }
 
+        /**
+         * Capture stack trace of failure. The stack trace is not captured on construction of the
+         * failure, but only when the failure is published (see {@link #strip(Failure, int)}), so
+         * that failures created for internal control flow and intermediate wrapping failures do
+         * not pay for capturing the stack trace.
+         *
+         * @return  failure exception.
+         */
+        public synchronized Throwable fillInStackTrace() {
+            if (this.type == null) {
+                return this;
+            }
+            this.traced = true;
+            return super.fillInStackTrace();
+        }
+
         /**
          * Create standard failure message using given failure type and failure message.
          *
@@ -608,16 +1080,43 @@ public abstract class AccessHelper {
         }
 
         /**
-         * Return invocation target exception root cause with given failure class type. Note: if the
-         * failure is not based on an invocation target exception, the failure itself is returned.
-         *
-         * @param   <Type>  failure type.
-         * @param   type    failure class type.
+         * Return failure message. The failure message is rendered on first request.
          *
-         * @return  invocation target exception root cause.
+         * @return  failure message.
          */
-        @SuppressWarnings("hiding")
-        public <Type extends Throwable> Type getTarget(Class<Type> type) {
+        public synchronized String getMessage() {
+            String message = this.message;
+            if (message == null) {
+                message = Failure.message(this.type, (this.detail != null) ? this.detail.toString() : null);
+                this.message = message;
+                this.detail = null;
+            }
+            return message;
+        }
+
+        /**
+         * Render failure message before failure is serialized.
+         *
+         * @param   out  object output stream.
+         *
+         * @throws  IOException  if failure cannot be written.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            this.getMessage();
+            out.defaultWriteObject();
+        }
+
+        /**
+         * Return invocation target exception root cause with given failure class type. Note: if the
+         * failure is not based on an invocation target exception, the failure itself is returned.
+         *
+         * @param   <Type>  failure type.
+         * @param   type    failure class type.
+         *
+         * @return  invocation target exception root cause.
+         */
+        @SuppressWarnings("hiding")
+        public <Type extends Throwable> Type getTarget(Class<Type> type) {
             if (this.type != Failure.Type.TARGET) {
                 return type.cast(this);
             }
@@ -665,140 +1164,47 @@ public abstract class AccessHelper {
         protected static class Helper {
 
             /**
-             * Return list of field names for given list of fields.
-             *
-             * @param   fields  list of fields.
-             *
-             * @return  list of field names.
+             * Truncation marker appended to truncated failure message details.
              */
-            private static String pretty(Field[] fields) {
-                if (fields == null) {
-                    return null;
-                }
-                StringBuilder builder = new StringBuilder("[");
-                for (Field field : fields) {
-                    if (builder.length() > 1) {
-                        builder.append(", ");
-                    }
-                    builder.append((field != null) ? field.getName() : "null");
-                }
-                return builder.append("]").toString();
-            }
+            public static final String TRUNCATED = "...";
 
             /**
-             * Return list of method names for given list of methods.
-             *
-             * @param   methods  list of methods.
-             *
-             * @return  list of method names.
+             * Maximum number of rendered array, collection, and map elements.
              */
-            private static String pretty(Method[] methods) {
-                if (methods == null) {
-                    return null;
-                }
-                StringBuilder builder = new StringBuilder("[");
-                for (Method method : methods) {
-                    if (builder.length() > 1) {
-                        builder.append(", ");
-                    }
-                    builder.append((method != null) ? method.getName() : "null");
-                }
-                return builder.append("]").toString();
-            }
+            private static volatile int elements = Integer.getInteger("org.jactors.junit.failure.elements", 100);
 
             /**
-             * Return list of class names for given list of class types.
-             *
-             * @param   types  list of class types.
-             *
-             * @return  list of class names.
+             * Maximum number of rendered characters per value.
              */
-            private static String pretty(Class<?>[] types) {
-                if (types == null) {
-                    return null;
-                }
-                StringBuilder builder = new StringBuilder("[");
-                for (Class<?> type : types) {
-                    if (builder.length() > 1) {
-                        builder.append(", ");
-                    }
-                    builder.append((type != null) ? type.getName() : "null");
-                }
-                return builder.append("]").toString();
-            }
+            private static volatile int chars = Integer.getInteger("org.jactors.junit.failure.chars", 4096);
 
             /**
-             * Return list of object names for given list of objects.
+             * Set maximum number of rendered array, collection, and map elements and maximum number
+             * of rendered characters per value used for rendering failure message details. Longer
+             * values are truncated and marked by {@link #TRUNCATED}.
              *
-             * @param   objects  list of objects.
-             *
-             * @return  list of object names.
+             * @param  elements  maximum number of rendered elements.
+             * @param  chars     maximum number of rendered characters per value.
              */
-            private static String pretty(Object[] objects) {
-                if (objects == null) {
-                    return null;
-                }
-                StringBuilder builder = new StringBuilder("[");
-                for (Object object : objects) {
-                    if (builder.length() > 1) {
-                        builder.append(", ");
-                    }
-                    builder.append((object != null) ? Helper.pretty(object) : "null");
+            public static void limit(int elements, int chars) {
+                if ((elements < 0) || (chars < 0)) {
+                    throw Failure.create(Failure.Type.ARGUMENT,
+                        "limits must not be negative [elements=" + elements + ", chars=" + chars + "]");
                 }
-                return builder.append("]").toString();
+                Helper.elements = elements;
+                Helper.chars = chars;
             }
 
             /**
-             * Return pretty string representation of given target object.
+             * Create plain value, that is rendered using its string representation instead of its
+             * pretty string representation.
              *
-             * @param   object  target object.
+             * @param   value  value object.
              *
-             * @return  pretty string representation.
+             * @return  plain value.
              */
-            private static String pretty(Object object) {
-                if (object == null) {
-                    return "null";
-                }
-                Class<?> type = object.getClass();
-                if (type.isArray()) {
-                    Class<?> ctype = type.getComponentType();
-                    if (ctype.isPrimitive()) {
-                        if (ctype == long.class) {
-                            return Arrays.toString((long[]) object);
-                        } else if (ctype == int.class) {
-                            return Arrays.toString((int[]) object);
-                        } else if (ctype == boolean.class) {
-                            return Arrays.toString((boolean[]) object);
-                        } else if (ctype == double.class) {
-                            return Arrays.toString((double[]) object);
-                        } else if (ctype == float.class) {
-                            return Arrays.toString((float[]) object);
-                        } else if (ctype == short.class) {
-                            return Arrays.toString((short[]) object);
-                        } else if (ctype == byte.class) {
-                            return Arrays.toString((byte[]) object);
-                        } else if (ctype == char.class) {
-                            return Arrays.toString((char[]) object);
-                        }
-
-                        // should never happen!
-                        throw Failure.create(Failure.Type.ARGUMENT, "not primitive [" + ctype.getName() + "]");
-                    } else if (ctype == Class.class) {
-                        return Helper.pretty((Class<?>[]) object);
-                    } else if (ctype == Method.class) {
-                        return Helper.pretty((Method[]) object);
-                    } else if (ctype == Field.class) {
-                        return Helper.pretty((Field[]) object);
-                    }
-                    return Helper.pretty((Object[]) object);
-                } else if (object instanceof Class) {
-                    return ((Class<?>) object).getName();
-                } else if (object instanceof Method) {
-                    return ((Method) object).getName();
-                } else if (object instanceof Field) {
-                    return ((Field) object).getName();
-                }
-                return object.toString();
+            private static Object plain(Object value) {
+                return (value != null) ? new Plain(value) : null;
             }
 
             /**
@@ -821,8 +1227,8 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Object target, String name) {
-                return "[target=" + Helper.pretty(target) + ", name=" + name + "]";
+            public static Message message(Object target, String name) {
+                return new Message("[target=", target, ", name=", Helper.plain(name), "]");
             }
 
             /**
@@ -835,8 +1241,9 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Object target, String name, Object value) {
-                return "[target=" + Helper.pretty(target) + ", name=" + name + ", value=" + value + "]";
+            public static Message message(Object target, String name, Object value) {
+                return new Message("[target=", target, ", name=", Helper.plain(name), //
+                        ", value=", Helper.plain(value), "]");
             }
 
             /**
@@ -847,8 +1254,8 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Object target, Field field) {
-                return "[target=" + Helper.pretty(target) + ", field=" + Helper.pretty(field) + "]";
+            public static Message message(Object target, Field field) {
+                return new Message("[target=", target, ", field=", field, "]");
             }
 
             /**
@@ -861,9 +1268,8 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Object target, Field field, Object value) {
-                return "[target=" + Helper.pretty(target) + ", field=" + Helper.pretty(field) //
-                    + ", value=" + value + "]";
+            public static Message message(Object target, Field field, Object value) {
+                return new Message("[target=", target, ", field=", field, ", value=", Helper.plain(value), "]");
             }
 
             /**
@@ -876,9 +1282,8 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Object target, Method method, Object[] args) {
-                return "[target=" + target + ", method=" + Helper.pretty(method) //
-                    + ", args=" + Helper.pretty(args) + "]";
+            public static Message message(Object target, Method method, Object[] args) {
+                return new Message("[target=", Helper.plain(target), ", method=", method, ", args=", args, "]");
             }
 
             /**
@@ -890,8 +1295,8 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Class<?> type, Class<?>... types) {
-                return "[type=" + Helper.pretty(type) + ", types=" + Helper.pretty(types) + "]";
+            public static Message message(Class<?> type, Class<?>... types) {
+                return new Message("[type=", type, ", types=", types, "]");
             }
 
             /**
@@ -904,9 +1309,8 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Class<?> type, Class<?>[] types, Object... args) {
-                return "[type=" + Helper.pretty(type) + ", types=" + Helper.pretty(types) //
-                    + ", args=" + Helper.pretty(args) + "]";
+            public static Message message(Class<?> type, Class<?>[] types, Object... args) {
+                return new Message("[type=", type, ", types=", types, ", args=", args, "]");
             }
 
             /**
@@ -918,8 +1322,8 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Class<?> type, String name) {
-                return "[type=" + Helper.pretty(type) + ", name=" + name + "]";
+            public static Message message(Class<?> type, String name) {
+                return new Message("[type=", type, ", name=", Helper.plain(name), "]");
             }
 
             /**
@@ -932,9 +1336,281 @@ public abstract class AccessHelper {
              *
              * @return  failure message details.
              */
-            public static String message(Class<?> type, String name, Class<?>... types) {
-                return "[type=" + Helper.pretty(type) + ", name=" + name //
-                    + ", types=" + Helper.pretty(types) + "]";
+            public static Message message(Class<?> type, String name, Class<?>... types) {
+                return new Message("[type=", type, ", name=", Helper.plain(name), ", types=", types, "]");
+            }
+
+            /**
+             * Failure message details rendered lazily on first use of its string representation.
+             * Values are rendered using their pretty string representation, i.e. arrays are
+             * rendered by elements and class types, methods, and fields are rendered by name.
+             * Arrays, collections, and maps are rendered up to the configured maximum number of
+             * elements and each value is rendered up to the configured maximum number of
+             * characters (see {@link Helper#limit(int, int)}).
+             */
+            public static final class Message {
+
+                /**
+                 * Message parts, alternating message text and message value.
+                 */
+                private final Object[] parts;
+
+                /**
+                 * Rendered failure message details (null if not rendered yet).
+                 */
+                private String text;
+
+                /**
+                 * Create failure message details with given message parts, alternating message
+                 * text and message value.
+                 *
+                 * @param  parts  message parts.
+                 */
+                private Message(Object... parts) {
+                    this.parts = parts;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public String toString() {
+                    String text = this.text;
+                    if (text == null) {
+                        StringBuilder builder = new StringBuilder();
+                        for (int index = 0; index < this.parts.length; index++) {
+                            if ((index % 2) == 0) {
+                                builder.append(this.parts[index]);
+                            } else {
+                                new Renderer(builder, Helper.elements, Helper.chars).value(this.parts[index]);
+                            }
+                        }
+                        this.text = text = builder.toString();
+                    }
+                    return text;
+                }
+            }
+
+            /**
+             * Plain value rendered using its string representation.
+             */
+            private static final class Plain {
+
+                /**
+                 * Plain value object.
+                 */
+                private final Object value;
+
+                /**
+                 * Create plain value for given value object.
+                 *
+                 * @param  value  value object.
+                 */
+                private Plain(Object value) {
+                    this.value = value;
+                }
+            }
+
+            /**
+             * Bounded value renderer appending the string representation of a single value to a
+             * failure message details builder.
+             */
+            private static final class Renderer {
+
+                /**
+                 * Failure message details builder.
+                 */
+                private final StringBuilder builder;
+
+                /**
+                 * Maximum number of rendered elements.
+                 */
+                private final int elements;
+
+                /**
+                 * Builder length at which rendering is truncated.
+                 */
+                private final int limit;
+
+                /**
+                 * Create bounded value renderer for given failure message details builder, maximum
+                 * number of rendered elements, and maximum number of rendered characters.
+                 *
+                 * @param  builder   failure message details builder.
+                 * @param  elements  maximum number of rendered elements.
+                 * @param  chars     maximum number of rendered characters.
+                 */
+                private Renderer(StringBuilder builder, int elements, int chars) {
+                    this.builder = builder;
+                    this.elements = elements;
+                    this.limit = builder.length() + chars;
+                }
+
+                /**
+                 * Render given value and truncate it, if it exceeds the maximum number of
+                 * characters.
+                 *
+                 * @param  value  value object (may be plain value).
+                 */
+                public void value(Object value) {
+                    if (value instanceof Plain) {
+                        this.plain(((Plain) value).value);
+                    } else {
+                        this.pretty(value);
+                    }
+                    if (this.builder.length() > this.limit) {
+                        this.builder.setLength(this.limit);
+                        this.builder.append(TRUNCATED);
+                    }
+                }
+
+                /**
+                 * Check whether the maximum number of characters is exceeded.
+                 *
+                 * @return  whether the maximum number of characters is exceeded.
+                 */
+                private boolean full() {
+                    return this.builder.length() > this.limit;
+                }
+
+                /**
+                 * Append given text, if the maximum number of characters is not exceeded yet.
+                 *
+                 * @param  text  text to append.
+                 */
+                private void append(String text) {
+                    if (!this.full()) {
+                        this.builder.append(text);
+                    }
+                }
+
+                /**
+                 * Render plain string representation of given object. Collections and maps with
+                 * default string representation are rendered bounded.
+                 *
+                 * @param  object  target object.
+                 */
+                private void plain(Object object) {
+                    if ((object instanceof Collection) && Renderer.plain(object, Collection.class)) {
+                        this.collection((Collection<?>) object);
+                    } else if ((object instanceof Map) && Renderer.plain(object, Map.class)) {
+                        this.map((Map<?, ?>) object);
+                    } else {
+                        this.append(String.valueOf(object));
+                    }
+                }
+
+                /**
+                 * Render pretty string representation of given target object.
+                 *
+                 * @param  object  target object.
+                 */
+                private void pretty(Object object) {
+                    if (object == null) {
+                        this.append("null");
+                    } else if (object.getClass().isArray()) {
+                        this.array(object);
+                    } else if (object instanceof Class) {
+                        this.append(((Class<?>) object).getName());
+                    } else if (object instanceof Method) {
+                        this.append(((Method) object).getName());
+                    } else if (object instanceof Field) {
+                        this.append(((Field) object).getName());
+                    } else {
+                        this.plain(object);
+                    }
+                }
+
+                /**
+                 * Render pretty string representation of given array object. Elements of primitive
+                 * arrays are rendered by value, elements of object arrays by their pretty string
+                 * representation.
+                 *
+                 * @param  array  array object.
+                 */
+                private void array(Object array) {
+                    boolean primitive = array.getClass().getComponentType().isPrimitive();
+                    int length = Array.getLength(array);
+                    this.append("[");
+                    for (int index = 0; (index < length) && !this.full(); index++) {
+                        if (index == this.elements) {
+                            this.append(index > 0 ? ", " + TRUNCATED : TRUNCATED);
+                            break;
+                        }
+                        this.append(index > 0 ? ", " : "");
+                        Object value = Array.get(array, index);
+                        if (primitive) {
+                            this.append(String.valueOf(value));
+                        } else {
+                            this.pretty(value);
+                        }
+                    }
+                    this.append("]");
+                }
+
+                /**
+                 * Render string representation of given collection as done by {@link
+                 * AbstractCollection#toString()}.
+                 *
+                 * @param  collection  collection.
+                 */
+                private void collection(Collection<?> collection) {
+                    int index = 0;
+                    this.append("[");
+                    for (Iterator<?> iter = collection.iterator(); iter.hasNext() && !this.full(); index++) {
+                        if (index == this.elements) {
+                            this.append(index > 0 ? ", " + TRUNCATED : TRUNCATED);
+                            break;
+                        }
+                        Object value = iter.next();
+                        this.append(index > 0 ? ", " : "");
+                        this.append((value == collection) ? "(this Collection)" : String.valueOf(value));
+                    }
+                    this.append("]");
+                }
+
+                /**
+                 * Render string representation of given map as done by {@link
+                 * AbstractMap#toString()}.
+                 *
+                 * @param  map  map.
+                 */
+                private void map(Map<?, ?> map) {
+                    int index = 0;
+                    this.append("{");
+                    for (Iterator<? extends Map.Entry<?, ?>> iter = map.entrySet().iterator();
+                            iter.hasNext() && !this.full(); index++) {
+                        if (index == this.elements) {
+                            this.append(index > 0 ? ", " + TRUNCATED : TRUNCATED);
+                            break;
+                        }
+                        Map.Entry<?, ?> entry = iter.next();
+                        this.append(index > 0 ? ", " : "");
+                        this.append((entry.getKey() == map) ? "(this Map)" : String.valueOf(entry.getKey()));
+                        this.append("=");
+                        this.append((entry.getValue() == map) ? "(this Map)" : String.valueOf(entry.getValue()));
+                    }
+                    this.append("}");
+                }
+
+                /**
+                 * Check whether given object uses the default string representation of given
+                 * container type, i.e. does not override {@link Object#toString()} beyond the
+                 * abstract container implementation.
+                 *
+                 * @param   object  target object.
+                 * @param   type    container type (collection or map).
+                 *
+                 * @return  whether object uses the default string representation.
+                 */
+                private static boolean plain(Object object, Class<?> type) {
+                    try {
+                        Class<?> owner = object.getClass().getMethod("toString").getDeclaringClass();
+                        return (type == Collection.class) ? (owner == AbstractCollection.class)
+                                                          : (owner == AbstractMap.class);
+                    } catch (NoSuchMethodException except) {
+                        return false;
+                    }
+                }
             }
         }
     }
@@ -944,6 +1620,11 @@ public abstract class AccessHelper {
      */
     public static abstract class Fields {
 
+        /**
+         * Cache of resolved declared fields by declaring class type and declared field name.
+         */
+        private static final Cache<Field> CACHE = new Cache<Field>();
+
         /**
          * Resolve declared field for given declaring class type using given declared field name and
          * default failure handling mode.
@@ -968,28 +1649,49 @@ public abstract class AccessHelper {
          * @return  declared field.
          */
         public static Field resolve(Class<?> type, String name, Failure.Mode mode) {
-            try {
-                return Base.accessible(type.getDeclaredField(name));
-            } catch (Exception except) {
-                if (type.getSuperclass() != null) {
-                    try {
-                        return Fields.resolve(type.getSuperclass(), name, mode);
-                    } catch (Failure failure) {
-                        // ignore failure, report first!
-                    }
+            Field field = null;
+            if (name != null) {
+                Reference<Field> cached = CACHE.get(type, name);
+                field = (cached != null) ? cached.get() : null;
+                if ((field == null) && !Cache.failed(cached)) {
+                    field = CACHE.put(type, name, Fields.lookup(type, name));
                 }
-                switch (mode) {
-                    case DEFAULT:
-                    case THROW_EXCEPTION:
-                        throw Failure.create(Failure.Helper.message(type, name), except);
+            }
+            if (field != null) {
+                return Base.accessible(field);
+            }
+            switch (mode) {
+                case DEFAULT:
+                case THROW_EXCEPTION:
+                    throw Failure.create(Failure.Helper.message(type, name), new NoSuchFieldException(name));
 
-                    case RETURN_NULL:
-                        return null;
+                case RETURN_NULL:
+                    return null;
 
-                    default:
-                        throw Failure.create(mode, except);
+                default:
+                    throw Failure.create(mode, new NoSuchFieldException(name));
+            }
+        }
+
+        /**
+         * Lookup declared field for given declaring class type using given declared field name by
+         * scanning the declared fields of the declaring class type and all its super class types.
+         *
+         * @param   type  declaring class type.
+         * @param   name  declared field name.
+         *
+         * @return  declared field, or {@code null} if field is not declared.
+         */
+        private static Field lookup(Class<?> type, String name) {
+            while (type != null) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (field.getName().equals(name)) {
+                        return Base.accessible(field);
+                    }
                 }
+                type = type.getSuperclass();
             }
+            return null;
         }
 
         /**
@@ -1163,7 +1865,7 @@ public abstract class AccessHelper {
                 throw Failure.create(Failure.Type.ACCESS, Failure.Helper.message((Object) null, field));
             }
             try {
-                return (Type) field.get(target);
+                return (Type) Backend.actual.get(target, field);
             } catch (Exception except) {
                 throw Failure.create(Failure.Helper.message(target, field), except);
             }
@@ -1224,7 +1926,7 @@ public abstract class AccessHelper {
         public static <Type> Type set(Object target, Field field, Type value) {
             try {
                 Type before = Fields.get(target, field);
-                field.set(target, value);
+                Backend.actual.set(target, field, value);
                 return before;
             } catch (Exception except) {
                 throw Failure.create(Failure.Helper.message(target, field, value), except);
@@ -1262,6 +1964,21 @@ public abstract class AccessHelper {
      */
     public static abstract class Methods {
 
+        /**
+         * Cache of resolved declared methods by declaring class type and method signature.
+         */
+        private static final Cache<Method> CACHE = new Cache<Method>();
+
+        /**
+         * Cache of selected declared method lists by declaring class type and method selection.
+         */
+        private static final Cache<List<Method>> SELECTS = new Cache<List<Method>>();
+
+        /**
+         * Cache of declared method tables by declaring class type.
+         */
+        private static final Cache<Table> TABLES = new Cache<Table>();
+
         /**
          * Resolve declared method for given declaring class type with given declared method name,
          * given method argument types, and default failure handling mode.
@@ -1288,28 +2005,71 @@ public abstract class AccessHelper {
          * @return  declared method.
          */
         public static Method resolve(Class<?> type, String name, Failure.Mode mode, Class<?>... types) {
-            try {
-                return Base.accessible(type.getDeclaredMethod(name, types));
-            } catch (Exception except) {
-                if (type.getSuperclass() != null) {
-                    try {
-                        return Methods.resolve(type.getSuperclass(), name, mode, types);
-                    } catch (Failure failure) {
-                        // ignore failure, report first!
-                    }
+            Method method = null;
+            if (name != null) {
+                Object key = Cache.key(name, (types != null) ? types : Base.EMPTY_TYPES);
+                Reference<Method> cached = CACHE.get(type, key);
+                method = (cached != null) ? cached.get() : null;
+                if ((method == null) && !Cache.failed(cached)) {
+                    method = CACHE.put(type, key, Methods.lookup(type, name, types));
                 }
-                switch (mode) {
-                    case DEFAULT:
-                    case THROW_EXCEPTION:
-                        throw Failure.create(Failure.Helper.message(type, name, types), except);
+            }
+            if (method != null) {
+                return Base.accessible(method);
+            }
+            switch (mode) {
+                case DEFAULT:
+                case THROW_EXCEPTION:
+                    throw Failure.create(Failure.Helper.message(type, name, types), //
+                        new NoSuchMethodException(type.getName() + "." + name));
 
-                    case RETURN_NULL:
-                        return null;
+                case RETURN_NULL:
+                    return null;
 
-                    default:
-                        throw Failure.create(mode, except);
+                default:
+                    throw Failure.create(mode, new NoSuchMethodException(type.getName() + "." + name));
+            }
+        }
+
+        /**
+         * Lookup declared method for given declaring class type using given declared method name
+         * and given method argument types by scanning the declared methods of the declaring class
+         * type and all its super class types. If multiple methods match, the method with the most
+         * specific return type is chosen.
+         *
+         * @param   type   declaring class type.
+         * @param   name   declared method name.
+         * @param   types  method argument types (may be null).
+         *
+         * @return  declared method, or {@code null} if method is not declared.
+         */
+        private static Method lookup(Class<?> type, String name, Class<?>[] types) {
+            if (types == null) {
+                types = Base.EMPTY_TYPES;
+            }
+            Method result = null;
+            for (Method method : Methods.table(type).methods(name)) {
+                if ((result != null) && (result.getDeclaringClass() != method.getDeclaringClass())) {
+                    break;
+                } else if (Arrays.equals(method.getParameterTypes(), types)
+                        && ((result == null) || result.getReturnType().isAssignableFrom(method.getReturnType()))) {
+                    result = method;
                 }
             }
+            return result;
+        }
+
+        /**
+         * Resolve cached declared method table for given declaring class type.
+         *
+         * @param   type  declaring class type.
+         *
+         * @return  declared method table.
+         */
+        private static Table table(Class<?> type) {
+            Reference<Table> cached = TABLES.get(type, Table.class);
+            Table table = (cached != null) ? cached.get() : null;
+            return (table != null) ? table : TABLES.put(type, Table.class, new Table(type));
         }
 
         /**
@@ -1324,24 +2084,26 @@ public abstract class AccessHelper {
          * @return  list of declared method.
          */
         public static List<Method> resolve(Class<?> type, String name, Class<?>[] atypes, Class<?> rtype) {
-            List<Method> list = new ArrayList<Method>();
-            if (name != null) {
-                name = name.intern();
-            }
-            while (type != null) {
-                for (Method method : type.getDeclaredMethods()) {
-                    if ((name != null) && (name != method.getName())) {
-                        continue;
-                    } else if (!Classes.assignable(method.getParameterTypes(), atypes)) {
+            Object key = Arrays.asList(name, (atypes != null) ? Arrays.asList(atypes) : null, rtype);
+            Reference<List<Method>> cached = SELECTS.get(type, key);
+            List<Method> list = (cached != null) ? cached.get() : null;
+            if (list == null) {
+                list = new ArrayList<Method>();
+                for (Method method : Methods.table(type).methods(name)) {
+                    if (!Classes.assignable(method.getParameterTypes(), atypes)) {
                         continue;
                     } else if (!Classes.assignable(method.getReturnType(), rtype)) {
                         continue;
                     }
-                    list.add(Base.accessible(method));
+                    list.add(method);
                 }
-                type = type.getSuperclass();
+                SELECTS.put(type, key, list);
             }
-            return list;
+            List<Method> result = new ArrayList<Method>(list.size());
+            for (Method method : list) {
+                result.add(Base.accessible(method));
+            }
+            return result;
         }
 
         /**
@@ -1449,7 +2211,7 @@ public abstract class AccessHelper {
         @SuppressWarnings("unchecked")
         public static <Type> Type invoke(Object target, Method method, Failure.Mode mode, Object... args) {
             try {
-                return (Type) method.invoke(target, args);
+                return (Type) Backend.actual.invoke(target, method, args);
             } catch (Exception except) {
                 switch (mode) {
                     case DEFAULT:
@@ -1464,20 +2226,183 @@ public abstract class AccessHelper {
                 }
             }
         }
-    }
 
-    /**
-     * Class specific access methods.
-     */
-    public static abstract class Classes {
+        /**
+         * Invoke given declared method without call arguments on given target object and return
+         * result object. In contrast to {@link #invoke(Object, Method, Object...)} no call
+         * argument array is allocated.
+         *
+         * @param   <Type>  invocation result type.
+         * @param   target  target object.
+         * @param   method  declared method.
+         *
+         * @return  result object.
+         */
+        @SuppressWarnings("unchecked")
+        public static <Type> Type invoke0(Object target, Method method) {
+            try {
+                return (Type) Backend.actual.invoke0(target, method);
+            } catch (Exception except) {
+                throw Failure.create(Failure.Helper.message(target, method, Base.EMPTY_ARGS), except);
+            }
+        }
 
         /**
-         * Name to class type mapping.
+         * Invoke given declared method with given call argument on given target object and return
+         * result object. In contrast to {@link #invoke(Object, Method, Object...)} no call
+         * argument array is allocated.
+         *
+         * @param   <Type>  invocation result type.
+         * @param   target  target object.
+         * @param   method  declared method.
+         * @param   arg0    first call argument.
+         *
+         * @return  result object.
          */
-        private static final Map<String, Class<?>> NAME_MAP = //
-            AccessHelper.builder(new HashMap<String, Class<?>>()) //
-            .add(long.class.getName(), long.class).add(Long.class.getSimpleName(), Long.class) //
-            .add(int.class.getName(), int.class).add(Integer.class.getSimpleName(), Integer.class) //
+        @SuppressWarnings("unchecked")
+        public static <Type> Type invoke1(Object target, Method method, Object arg0) {
+            try {
+                return (Type) Backend.actual.invoke1(target, method, arg0);
+            } catch (Exception except) {
+                throw Failure.create(Failure.Helper.message(target, method, new Object[] { arg0 }), except);
+            }
+        }
+
+        /**
+         * Invoke given declared method with given call arguments on given target object and return
+         * result object. In contrast to {@link #invoke(Object, Method, Object...)} no call
+         * argument array is allocated.
+         *
+         * @param   <Type>  invocation result type.
+         * @param   target  target object.
+         * @param   method  declared method.
+         * @param   arg0    first call argument.
+         * @param   arg1    second call argument.
+         *
+         * @return  result object.
+         */
+        @SuppressWarnings("unchecked")
+        public static <Type> Type invoke2(Object target, Method method, Object arg0, Object arg1) {
+            try {
+                return (Type) Backend.actual.invoke2(target, method, arg0, arg1);
+            } catch (Exception except) {
+                throw Failure.create(Failure.Helper.message(target, method, new Object[] { arg0, arg1 }), except);
+            }
+        }
+
+        /**
+         * Invoke given declared method with given call arguments on given target object and return
+         * result object. In contrast to {@link #invoke(Object, Method, Object...)} no call
+         * argument array is allocated.
+         *
+         * @param   <Type>  invocation result type.
+         * @param   target  target object.
+         * @param   method  declared method.
+         * @param   arg0    first call argument.
+         * @param   arg1    second call argument.
+         * @param   arg2    third call argument.
+         *
+         * @return  result object.
+         */
+        @SuppressWarnings("unchecked")
+        public static <Type> Type invoke3(Object target, Method method, Object arg0, Object arg1, Object arg2) {
+            try {
+                return (Type) Backend.actual.invoke3(target, method, arg0, arg1, arg2);
+            } catch (Exception except) {
+                throw Failure.create(Failure.Helper.message(target, method, new Object[] { arg0, arg1, arg2 }),
+                    except);
+            }
+        }
+
+        /**
+         * Declared method table of a declaring class type containing all declared methods of the
+         * declaring class type and all its super class types grouped by declared method name. The
+         * declared methods are kept in class hierarchy order starting with the declaring class type.
+         * They are not made accessible here, since only the selected methods need to be.
+         */
+        private static final class Table {
+
+            /**
+             * Empty method list.
+             */
+            private static final Method[] EMPTY_METHODS = new Method[] {};
+
+            /**
+             * All declared methods in class hierarchy order.
+             */
+            private final Method[] methods;
+
+            /**
+             * Declared methods in class hierarchy order by declared method name.
+             */
+            private final Map<String, Method[]> names = new HashMap<String, Method[]>();
+
+            /**
+             * Create declared method table for given declaring class type.
+             *
+             * @param  type  declaring class type.
+             */
+            private Table(Class<?> type) {
+                List<Method> all = new ArrayList<Method>();
+                Map<String, List<Method>> groups = new HashMap<String, List<Method>>();
+                while (type != null) {
+                    for (Method method : type.getDeclaredMethods()) {
+                        List<Method> group = groups.get(method.getName());
+                        if (group == null) {
+                            group = new ArrayList<Method>();
+                            groups.put(method.getName(), group);
+                        }
+                        group.add(method);
+                        all.add(method);
+                    }
+                    type = type.getSuperclass();
+                }
+                for (Map.Entry<String, List<Method>> entry : groups.entrySet()) {
+                    this.names.put(entry.getKey(), entry.getValue().toArray(new Method[entry.getValue().size()]));
+                }
+                this.methods = all.toArray(new Method[all.size()]);
+            }
+
+            /**
+             * Return declared methods with given declared method name in class hierarchy order. If
+             * no declared method name is given, all declared methods are returned.
+             *
+             * @param   name  declared method name (may be null).
+             *
+             * @return  declared methods.
+             */
+            public Method[] methods(String name) {
+                if (name == null) {
+                    return this.methods;
+                }
+                Method[] methods = this.names.get(name);
+                return (methods != null) ? methods : EMPTY_METHODS;
+            }
+        }
+    }
+
+    /**
+     * Class specific access methods.
+     */
+    public static abstract class Classes {
+
+        /**
+         * Class loader specific class name lookup cache.
+         */
+        private static final Lookup LOOKUP = new Lookup();
+
+        /**
+         * Cache for resolved generic type arguments.
+         */
+        private static final Cache<java.lang.reflect.Type> ARGUMENTS = new Cache<java.lang.reflect.Type>();
+
+        /**
+         * Name to class type mapping.
+         */
+        private static final Map<String, Class<?>> NAME_MAP = //
+            AccessHelper.builder(new HashMap<String, Class<?>>()) //
+            .add(long.class.getName(), long.class).add(Long.class.getSimpleName(), Long.class) //
+            .add(int.class.getName(), int.class).add(Integer.class.getSimpleName(), Integer.class) //
             .add(short.class.getName(), short.class).add(Short.class.getSimpleName(), Short.class) //
             .add(byte.class.getName(), byte.class).add(Byte.class.getSimpleName(), Byte.class) //
             .add(double.class.getName(), double.class).add(Double.class.getSimpleName(), Double.class) //
@@ -1488,21 +2413,6 @@ public abstract class AccessHelper {
             .add("class", Class.class).add(Class.class.getSimpleName(), Class.class) //
             .build();
 
-        /**
-         * Primitive to boxed type mapping.
-         */
-        private static final Map<String, Class<?>> BOX_MAP = //
-            AccessHelper.builder(new HashMap<String, Class<?>>()) //
-            .add(long.class.getName(), Long.class).add(Long.class.getSimpleName(), long.class) //
-            .add(int.class.getName(), Integer.class).add(Integer.class.getSimpleName(), int.class) //
-            .add(short.class.getName(), Short.class).add(Short.class.getSimpleName(), short.class) //
-            .add(byte.class.getName(), Byte.class).add(Byte.class.getSimpleName(), byte.class) //
-            .add(double.class.getName(), Double.class).add(Double.class.getSimpleName(), double.class) //
-            .add(float.class.getName(), Float.class).add(Float.class.getSimpleName(), float.class) //
-            .add(boolean.class.getName(), Boolean.class).add(Boolean.class.getSimpleName(), boolean.class) //
-            .add(char.class.getName(), Character.class).add(Character.class.getSimpleName(), char.class) //
-            .add(void.class.getName(), Void.class).add(Void.class.getSimpleName(), void.class).build();
-
         /** Argument types for define class. */
         private static final Class<?>[] DEFINE_TYPES = new Class[] {
             String.class, byte[].class, int.class, int.class
@@ -1581,9 +2491,10 @@ public abstract class AccessHelper {
          */
         public static <Type> Class<Type> create(ClassLoader loader, String name, byte[] buffer,
                 Failure.Mode mode) {
-            return Methods.invoke(loader, "defineClass", DEFINE_TYPES, mode, new Object[] {
-                name, buffer, 0, buffer.length
-            });
+            Class<Type> type = Methods.invoke(loader, "defineClass", DEFINE_TYPES, mode, new Object[] {
+                    name, buffer, 0, buffer.length
+                });
+            return (type != null) ? LOOKUP.put(loader, name, type) : null;
         }
 
         /**
@@ -1672,7 +2583,19 @@ public abstract class AccessHelper {
         @SuppressWarnings("unchecked")
         public static <Type> Class<Type> resolve(ClassLoader loader, String name, Failure.Mode mode) {
             try {
-                return (Class<Type>) loader.loadClass(name);
+                Reference<Class<?>> cached = LOOKUP.get(loader, name);
+                Class<?> type = (cached != null) ? cached.get() : null;
+                if (type != null) {
+                    return (Class<Type>) type;
+                } else if (cached == Lookup.NONE) {
+                    throw new ClassNotFoundException(name);
+                }
+                try {
+                    return (Class<Type>) LOOKUP.put(loader, name, loader.loadClass(name));
+                } catch (ClassNotFoundException except) {
+                    LOOKUP.put(loader, name, null);
+                    throw except;
+                }
             } catch (Exception except) {
                 switch (mode) {
                     case DEFAULT:
@@ -1724,18 +2647,44 @@ public abstract class AccessHelper {
          * @return  whether given base class type is assignable to given reference class type.
          */
         protected static boolean assignable(Class<?> base, Class<?> ref) {
-            if (ref == null) {
-                return true;
-            } else if (base.equals(ref)) {
-                return true;
-            } else if (base.isAssignableFrom(ref)) {
+            if ((ref == null) || (base == ref)) {
                 return true;
             } else if (base.isPrimitive()) {
-                return BOX_MAP.get(base.getSimpleName()).equals(ref);
+                return Classes.box(base) == ref;
             } else if (ref.isPrimitive()) {
-                return BOX_MAP.get(ref.getSimpleName()).equals(base);
+                return Classes.box(ref) == base;
+            }
+            return base.isAssignableFrom(ref);
+        }
+
+        /**
+         * Resolve boxed class type for given primitive class type using identity checks only.
+         *
+         * @param   type  primitive class type.
+         *
+         * @return  boxed class type ({@code null} if not primitive).
+         */
+        static Class<?> box(Class<?> type) {
+            if (type == int.class) {
+                return Integer.class;
+            } else if (type == long.class) {
+                return Long.class;
+            } else if (type == boolean.class) {
+                return Boolean.class;
+            } else if (type == double.class) {
+                return Double.class;
+            } else if (type == char.class) {
+                return Character.class;
+            } else if (type == byte.class) {
+                return Byte.class;
+            } else if (type == short.class) {
+                return Short.class;
+            } else if (type == float.class) {
+                return Float.class;
+            } else if (type == void.class) {
+                return Void.class;
             }
-            return false;
+            return null;
         }
 
         /**
@@ -1772,6 +2721,184 @@ public abstract class AccessHelper {
             }
             return (Class<Type>) atype.getBounds()[bound];
         }
+
+        /**
+         * Resolve actual generic type argument class type of given generic target class type using
+         * given generic type and given parameter index. The generic type is followed through the
+         * generic superclass and interface hierarchy, binding type variables on the way. If the
+         * type argument cannot be resolved to a class type, the erasure of its bound is returned.
+         * If the generic type does not implement the target class type {@code null} is returned.
+         *
+         * @param   <Type>  result class type.
+         * @param   type    generic type, e.g. field generic type or class type.
+         * @param   target  generic target class type.
+         * @param   param   index of parameter.
+         *
+         * @return  generic type argument class type (may be null).
+         */
+        @SuppressWarnings("unchecked")
+        protected static <Type> Class<Type> generic(java.lang.reflect.Type type, Class<?> target, int param) {
+            java.lang.reflect.Type atype = Classes.argument(type, target, param);
+            return (atype != null) ? (Class<Type>) Classes.erasure(atype) : null;
+        }
+
+        /**
+         * Resolve actual generic type argument of given generic target class type using given
+         * generic type and given parameter index (see {@link #generic(java.lang.reflect.Type,
+         * Class, int)}). Resolved type arguments are cached per generic type, that is only weakly
+         * referenced, so that the cache does not keep the class types it refers to alive.
+         *
+         * @param   type    generic type, e.g. field generic type or class type.
+         * @param   target  generic target class type.
+         * @param   param   index of parameter.
+         *
+         * @return  generic type argument (may be null).
+         */
+        protected static java.lang.reflect.Type argument(java.lang.reflect.Type type, Class<?> target, int param) {
+            List<Object> key = Arrays.<Object>asList(target, param);
+            Reference<java.lang.reflect.Type> cached = ARGUMENTS.get(type, key);
+            java.lang.reflect.Type result = (cached != null) ? cached.get() : null;
+            if ((result != null) || Cache.failed(cached)) {
+                return result;
+            } else if (!target.isAssignableFrom(Classes.erasure(type))) {
+                return ARGUMENTS.put(type, key, null);
+            }
+            TypeVariable<?>[] ptypes = target.getTypeParameters();
+            if (param >= ptypes.length) {
+                throw Failure.create(Failure.Type.ARGUMENT,
+                    "invalid parameter index [type=" + target.getName() + ", param=" + param + "]");
+            }
+            java.lang.reflect.Type[] atypes = Classes.arguments(type, target);
+            return ARGUMENTS.put(type, key, (atypes != null) ? atypes[param] : ptypes[param]);
+        }
+
+        /**
+         * Resolve actual generic type arguments of given generic target class type using given
+         * generic type by following the generic superclass and interface hierarchy.
+         *
+         * @param   type    generic type.
+         * @param   target  generic target class type.
+         *
+         * @return  generic type arguments ({@code null} if not available).
+         */
+        private static java.lang.reflect.Type[] arguments(java.lang.reflect.Type type, Class<?> target) {
+            Class<?> owner = Classes.erasure(type);
+            java.lang.reflect.Type[] actuals = (type instanceof ParameterizedType)
+                ? ((ParameterizedType) type).getActualTypeArguments() : null;
+            if (owner == target) {
+                return actuals;
+            }
+            List<java.lang.reflect.Type> supers = new ArrayList<java.lang.reflect.Type>();
+            if (owner.getGenericSuperclass() != null) {
+                supers.add(owner.getGenericSuperclass());
+            }
+            supers.addAll(Arrays.asList(owner.getGenericInterfaces()));
+            for (java.lang.reflect.Type stype : supers) {
+                if (!target.isAssignableFrom(Classes.erasure(stype))) {
+                    continue;
+                }
+                java.lang.reflect.Type[] atypes = Classes.arguments(stype, target);
+                if ((atypes == null) || (actuals == null)) {
+                    return atypes;
+                }
+                atypes = atypes.clone();
+                TypeVariable<?>[] ptypes = owner.getTypeParameters();
+                for (int index = 0; index < atypes.length; index++) {
+                    for (int param = 0; param < ptypes.length; param++) {
+                        if (ptypes[param].equals(atypes[index])) {
+                            atypes[index] = actuals[param];
+                        }
+                    }
+                }
+                return atypes;
+            }
+            return null;
+        }
+
+        /**
+         * Resolve erasure class type of given generic type, i.e. the raw class type of a
+         * parameterized type, and the erasure of the first bound of a type variable or wildcard.
+         *
+         * @param   type  generic type.
+         *
+         * @return  erasure class type.
+         */
+        protected static Class<?> erasure(java.lang.reflect.Type type) {
+            if (type instanceof Class<?>) {
+                return (Class<?>) type;
+            } else if (type instanceof ParameterizedType) {
+                return Classes.erasure(((ParameterizedType) type).getRawType());
+            } else if (type instanceof GenericArrayType) {
+                Class<?> ctype = Classes.erasure(((GenericArrayType) type).getGenericComponentType());
+                return Array.newInstance(ctype, 0).getClass();
+            } else if (type instanceof TypeVariable<?>) {
+                return Classes.erasure(((TypeVariable<?>) type).getBounds()[0]);
+            } else if (type instanceof WildcardType) {
+                return Classes.erasure(((WildcardType) type).getUpperBounds()[0]);
+            }
+            throw Failure.create(Failure.Type.ARGUMENT, "type not supported [" + type + "]");
+        }
+
+        /**
+         * Class name lookup cache mapping class loaders and class names to resolved class types.
+         * Class loaders and class types are weakly referenced, so that the cache does not prevent
+         * class (loader) unloading. Failed lookups are remembered using a {@code null} value.
+         */
+        private static final class Lookup {
+
+            /**
+             * Reference used to remember failed lookups.
+             */
+            private static final Reference<Class<?>> NONE = new WeakReference<Class<?>>(null);
+
+            /**
+             * Class loader to class name lookup mapping.
+             */
+            private final Map<ClassLoader, ConcurrentMap<String, Reference<Class<?>>>> map = //
+                Collections.synchronizedMap(new WeakHashMap<ClassLoader, ConcurrentMap<String, Reference<Class<?>>>>());
+
+            /**
+             * Return cached class type reference for given class loader and given class name. If
+             * the lookup is unknown {@code null} is returned. A failed lookup is returned as {@link
+             * #NONE}. Since the class type may be cleared at any time, callers must dereference the
+             * class type only once and treat a cleared class type as unknown lookup.
+             *
+             * @param   loader  class loader.
+             * @param   name    class name.
+             *
+             * @return  cached class type reference (may be null).
+             */
+            public Reference<Class<?>> get(ClassLoader loader, String name) {
+                Map<String, Reference<Class<?>>> types = this.map.get(loader);
+                return (types != null) ? types.get(name) : null;
+            }
+
+            /**
+             * Remember given class type (may be null) for given class loader and given class name
+             * and return the class type.
+             *
+             * @param   <Type>  class type.
+             * @param   loader  class loader.
+             * @param   name    class name.
+             * @param   type    resolved class type (may be null).
+             *
+             * @return  resolved class type.
+             */
+            public <Type> Class<Type> put(ClassLoader loader, String name, Class<Type> type) {
+                ConcurrentMap<String, Reference<Class<?>>> types = this.map.get(loader);
+                if (types == null) {
+                    synchronized (this.map) {
+                        types = this.map.get(loader);
+                        if (types == null) {
+                            types = new ConcurrentHashMap<String, Reference<Class<?>>>();
+                            this.map.put(loader, types);
+                        }
+                    }
+                }
+                types.put(name, (type != null) ? new WeakReference<Class<?>>(type) : NONE);
+                return type;
+            }
+        }
     }
 
     /**
@@ -1779,6 +2906,49 @@ public abstract class AccessHelper {
      */
     public static abstract class Objects {
 
+        /**
+         * Cache of resolved declared constructors by declaring class type and argument types.
+         */
+        private static final Cache<Constructor<?>> CACHE = new Cache<Constructor<?>>();
+
+        /**
+         * Lookup key of declared default constructors.
+         */
+        private static final Object KEY_DEFAULT = Cache.key(null, Base.EMPTY_TYPES);
+
+        /**
+         * Lookup key of allocation constructors.
+         */
+        private static final Object KEY_ALLOCATE = Cache.key("<allocate>");
+
+        /**
+         * Lookup key of remembered copy constructors.
+         */
+        private static final Object KEY_COPY = Cache.key("<copy>");
+
+        /**
+         * Instantiation strategy used for creating new instances without constructor arguments.
+         */
+        public static enum Strategy {
+
+            /**
+             * Instantiation strategy using the declared default constructor only.
+             */
+            CONSTRUCTOR,
+
+            /**
+             * Instantiation strategy allocating instances without running any constructor of the
+             * class type, i.e. leaving all fields with their default values.
+             */
+            ALLOCATE,
+
+            /**
+             * Instantiation strategy using the declared default constructor if available, and
+             * allocating instances without running any constructor otherwise.
+             */
+            AUTO,
+        }
+
         /**
          * Resolve declared constructor for given declaring class type using default failure
          * handling mode with given constructor argument types.
@@ -1804,22 +2974,47 @@ public abstract class AccessHelper {
          *
          * @return  declared constructor.
          */
+        @SuppressWarnings("unchecked")
         public static <Type> Constructor<Type> resolve(Class<Type> type, Failure.Mode mode, Class<?>... types) {
-            try {
-                return Base.accessible(type.getDeclaredConstructor(types));
-            } catch (Exception except) {
-                switch (mode) {
-                    case DEFAULT:
-                    case THROW_EXCEPTION:
-                        throw Failure.create(Failure.Helper.message(type, types), except);
+            Object key = ((types == null) || (types.length == 0)) ? KEY_DEFAULT : Cache.key(null, types);
+            Reference<Constructor<?>> cached = CACHE.get(type, key);
+            Constructor<Type> factory = (cached != null) ? (Constructor<Type>) cached.get() : null;
+            if ((factory == null) && !Cache.failed(cached)) {
+                factory = (Constructor<Type>) CACHE.put(type, key, Objects.lookup(type, types));
+            }
+            if (factory != null) {
+                return Base.accessible(factory);
+            }
+            switch (mode) {
+                case DEFAULT:
+                case THROW_EXCEPTION:
+                    throw Failure.create(Failure.Helper.message(type, types), //
+                        new NoSuchMethodException(type.getName() + ".<init>"));
 
-                    case RETURN_NULL:
-                        return null;
+                case RETURN_NULL:
+                    return null;
 
-                    default:
-                        throw Failure.create(mode, except);
+                default:
+                    throw Failure.create(mode, new NoSuchMethodException(type.getName() + ".<init>"));
+            }
+        }
+
+        /**
+         * Lookup declared constructor for given declaring class type using given constructor
+         * argument types by scanning the declared constructors of the declaring class type.
+         *
+         * @param   type   declaring class type.
+         * @param   types  constructor argument types (may be null).
+         *
+         * @return  declared constructor, or {@code null} if constructor is not declared.
+         */
+        private static Constructor<?> lookup(Class<?> type, Class<?>[] types) {
+            for (Constructor<?> factory : type.getDeclaredConstructors()) {
+                if (Arrays.equals(factory.getParameterTypes(), (types != null) ? types : Base.EMPTY_TYPES)) {
+                    return Base.accessible(factory);
                 }
             }
+            return null;
         }
 
         /**
@@ -1906,44 +3101,123 @@ public abstract class AccessHelper {
                 throw Failure.create(Failure.Type.SUPPORT, Failure.Helper.message(type, types, args));
             }
             try {
-                return Objects.create(Objects.resolve(type, mode, types), mode, args);
+                Constructor<Type> factory = Objects.resolve(type, mode, types);
+                return (factory != null) ? Objects.create(factory, mode, args) : null;
             } catch (Exception except) {
                 throw Failure.create(Failure.Style.MERGED, Failure.Helper.message(type, types, args), except);
             }
         }
 
         /**
-         * Create new instance of class type with given declared class name using default failure
-         * handling mode while utilizing constructor with given constructor argument types using
-         * given constructor arguments.
+         * Create new instance of given declared class type using given instantiation strategy and
+         * default failure handling mode.
          *
-         * @param   <Type>  result object type.
-         * @param   name    declared class name.
-         * @param   types   constructor argument types.
-         * @param   args    constructor arguments.
+         * @param   <Type>    result object type.
+         * @param   type      declared class type.
+         * @param   strategy  instantiation strategy.
          *
          * @return  instance of given class type.
          */
-        public static <Type> Type create(String name, Class<?>[] types, Object... args) {
-            return Objects.create(name, Failure.Mode.DEFAULT, types, args);
+        public static <Type> Type instantiate(Class<Type> type, Strategy strategy) {
+            return Objects.instantiate(type, strategy, Failure.Mode.DEFAULT);
         }
 
         /**
-         * Create new instance of class type with given declared class name using given failure
-         * handling mode while utilizing constructor with given constructor argument types using
-         * given constructor arguments.
+         * Create new instance of given declared class type using given instantiation strategy and
+         * given failure handling mode.
+         *
+         * @param   <Type>    result object type.
+         * @param   type      declared class type.
+         * @param   strategy  instantiation strategy.
+         * @param   mode      failure handling mode.
+         *
+         * @return  instance of given class type.
+         */
+        public static <Type> Type instantiate(Class<Type> type, Strategy strategy, Failure.Mode mode) {
+            switch (strategy) {
+                case CONSTRUCTOR:
+                    return Objects.create(type, mode, Base.EMPTY_TYPES);
+
+                case ALLOCATE:
+                    return Objects.allocate(type, mode);
+
+                case AUTO:
+                    if (Objects.resolve(type, Failure.Mode.RETURN_NULL, Base.EMPTY_TYPES) != null) {
+                        return Objects.create(type, mode, Base.EMPTY_TYPES);
+                    }
+                    return Objects.allocate(type, mode);
+
+                default:
+                    throw Failure.create(Failure.Type.SUPPORT, "strategy not supported [" + strategy + "]");
+            }
+        }
+
+        /**
+         * Allocate new instance of given declared class type without running any constructor of
+         * the class type using given failure handling mode. The allocation constructor is resolved
+         * once per class type using the serialization support of the runtime.
          *
          * @param   <Type>  result object type.
-         * @param   name    declared class name.
+         * @param   type    declared class type.
          * @param   mode    failure handling mode.
-         * @param   types   constructor argument types.
-         * @param   args    constructor arguments.
          *
          * @return  instance of given class type.
          */
-        @SuppressWarnings({ "unchecked", "rawtypes" })
-        public static <Type> Type create(String name, Failure.Mode mode, Class<?>[] types, Object... args) {
-            Class<Type> type = Classes.<Type>resolve(name, mode);
+        @SuppressWarnings("unchecked")
+        private static <Type> Type allocate(Class<Type> type, Failure.Mode mode) {
+            Reference<Constructor<?>> cached = CACHE.get(type, KEY_ALLOCATE);
+            Constructor<Type> factory = (cached != null) ? (Constructor<Type>) cached.get() : null;
+            if ((factory == null) && !Cache.failed(cached)) {
+                factory = (Constructor<Type>) CACHE.put(type, KEY_ALLOCATE, Allocator.resolve(type));
+            }
+            if (factory != null) {
+                return Objects.create(factory, mode, Base.EMPTY_ARGS);
+            }
+            switch (mode) {
+                case DEFAULT:
+                case THROW_EXCEPTION:
+                    throw Failure.create(Failure.Type.SUPPORT, "allocation not supported [" + type.getName() + "]");
+
+                case RETURN_NULL:
+                    return null;
+
+                default:
+                    throw Failure.create(mode, new InstantiationException(type.getName()));
+            }
+        }
+
+        /**
+         * Create new instance of class type with given declared class name using default failure
+         * handling mode while utilizing constructor with given constructor argument types using
+         * given constructor arguments.
+         *
+         * @param   <Type>  result object type.
+         * @param   name    declared class name.
+         * @param   types   constructor argument types.
+         * @param   args    constructor arguments.
+         *
+         * @return  instance of given class type.
+         */
+        public static <Type> Type create(String name, Class<?>[] types, Object... args) {
+            return Objects.create(name, Failure.Mode.DEFAULT, types, args);
+        }
+
+        /**
+         * Create new instance of class type with given declared class name using given failure
+         * handling mode while utilizing constructor with given constructor argument types using
+         * given constructor arguments.
+         *
+         * @param   <Type>  result object type.
+         * @param   name    declared class name.
+         * @param   mode    failure handling mode.
+         * @param   types   constructor argument types.
+         * @param   args    constructor arguments.
+         *
+         * @return  instance of given class type.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public static <Type> Type create(String name, Failure.Mode mode, Class<?>[] types, Object... args) {
+            Class<Type> type = Classes.<Type>resolve(name, mode);
             if (type == null) {
                 return null;
             } else if (type.isEnum()) {
@@ -2007,7 +3281,9 @@ public abstract class AccessHelper {
         /**
          * Copy given target object by searching a copy constructor that allows creation of objects
          * based on instances of the same class type (including parent class types) or one of the
-         * declared interface types using given failure handling mode.
+         * declared interface types using given failure handling mode. The copy constructor found
+         * first is remembered per class type, as well as the absence of any copy constructor, so
+         * that later copies directly use the remembered copy constructor.
          *
          * @param   <Type>  target object type.
          * @param   target  target object.
@@ -2015,22 +3291,23 @@ public abstract class AccessHelper {
          *
          * @return  copied target object.
          */
+        @SuppressWarnings("unchecked")
         protected static <Type> Type copy(Type target, Failure.Mode mode) {
             if (target == null) {
                 throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
             }
-            Queue<Class<?>> list = new ArrayDeque<Class<?>>();
-            list.add(target.getClass());
-            while (!list.isEmpty()) {
-                Class<?> atype = list.poll();
-                Type result = Objects.copy(target, Failure.Mode.RETURN_NULL, atype);
-                if (result != null) {
-                    return result;
-                }
-                if ((atype.getSuperclass() != null) && (atype.getSuperclass() != Object.class)) {
-                    list.add(atype.getSuperclass());
-                }
-                list.addAll(Arrays.asList(atype.getInterfaces()));
+            Class<Type> type = (Class<Type>) target.getClass();
+            if (type.isArray() || type.isEnum()) {
+                return Objects.copy(target, Failure.Mode.RETURN_NULL, type);
+            }
+            Reference<Constructor<?>> cached = CACHE.get(type, KEY_COPY);
+            Constructor<Type> factory = (cached != null) ? (Constructor<Type>) cached.get() : null;
+            Type result = (factory != null) ? Objects.create(factory, Failure.Mode.RETURN_NULL, target) : null;
+            if ((result == null) && !Cache.failed(cached)) {
+                result = Objects.search(target, type);
+            }
+            if (result != null) {
+                return result;
             }
 
             switch (mode) {
@@ -2046,6 +3323,43 @@ public abstract class AccessHelper {
             }
         }
 
+        /**
+         * Search copy constructor for given target object of given class type by breadth-first
+         * search over the parent class types and interface types, copy the target object, and
+         * remember the successful copy constructor. The absence of a copy constructor is only
+         * remembered if no candidate copy constructor exists at all, not if the candidates only
+         * failed to copy the given target object.
+         *
+         * @param   <Type>  target object type.
+         * @param   target  target object.
+         * @param   type    target object class type.
+         *
+         * @return  copied target object ({@code null} if no copy constructor succeeded).
+         */
+        private static <Type> Type search(Type target, Class<Type> type) {
+            Queue<Class<?>> list = new ArrayDeque<Class<?>>();
+            list.add(type);
+            boolean found = false;
+            while (!list.isEmpty()) {
+                Class<?> atype = list.poll();
+                Constructor<Type> factory = Objects.resolve(type, Failure.Mode.RETURN_NULL, atype);
+                Type result = (factory != null) ? Objects.create(factory, Failure.Mode.RETURN_NULL, target) : null;
+                if (result != null) {
+                    CACHE.put(type, KEY_COPY, factory);
+                    return result;
+                }
+                found |= (factory != null);
+                if ((atype.getSuperclass() != null) && (atype.getSuperclass() != Object.class)) {
+                    list.add(atype.getSuperclass());
+                }
+                list.addAll(Arrays.asList(atype.getInterfaces()));
+            }
+            if (!found) {
+                CACHE.put(type, KEY_COPY, null);
+            }
+            return null;
+        }
+
         /**
          * Clone given target object by calling clone on the target object with given failure
          * handling mode.
@@ -2074,6 +3388,51 @@ public abstract class AccessHelper {
                     throw Failure.create(mode, null);
             }
         }
+
+        /**
+         * Allocation constructor factory based on the serialization support of the runtime. The
+         * factory creates constructors that only run the default constructor of {@link Object}.
+         */
+        private static final class Allocator {
+
+            /**
+             * Reflection factory class type ({@code null} if not supported).
+             */
+            private static final Class<?> TYPE = //
+                Classes.resolve("sun.reflect.ReflectionFactory", Failure.Mode.RETURN_NULL);
+
+            /**
+             * Reflection factory instance ({@code null} if not supported).
+             */
+            private static final Object FACTORY = (TYPE == null) ? null
+                : Methods.invoke(null, TYPE, "getReflectionFactory", Base.EMPTY_TYPES, Failure.Mode.RETURN_NULL);
+
+            /**
+             * Object default constructor.
+             */
+            private static final Constructor<Object> OBJECT = Objects.resolve(Object.class);
+
+            /**
+             * Argument types for creating allocation constructors.
+             */
+            private static final Class<?>[] TYPES = new Class<?>[] { Class.class, Constructor.class };
+
+            /**
+             * Resolve allocation constructor for given class type.
+             *
+             * @param   type  class type.
+             *
+             * @return  allocation constructor ({@code null} if not supported).
+             */
+            public static Constructor<?> resolve(Class<?> type) {
+                if ((FACTORY == null) || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                    return null;
+                }
+                Constructor<?> factory = Methods.invoke(FACTORY, "newConstructorForSerialization", TYPES,
+                        Failure.Mode.RETURN_NULL, new Object[] { type, OBJECT });
+                return (factory != null) ? Base.accessible(factory) : null;
+            }
+        }
     }
 
     /**
@@ -2242,6 +3601,22 @@ public abstract class AccessHelper {
              */
             private static final String METHOD_FIELD_ACCESSOR_SET = "set";
 
+            /**
+             * Argument types to acquire new instance from constructor accessor.
+             */
+            private static final Class<?>[] TYPES_CONSTRUCTOR_ACCESSOR_NEW_INSTANCE = //
+                new Class<?>[] { Object[].class };
+
+            /**
+             * Argument types to acquire field accessor.
+             */
+            private static final Class<?>[] TYPES_ACQUIRE_FIELD_ACCESSOR = new Class<?>[] { boolean.class };
+
+            /**
+             * Argument types to update enumeration values field.
+             */
+            private static final Class<?>[] TYPES_FIELD_ACCESSOR_SET = new Class<?>[] { Object.class, Object.class };
+
             /**
              * Resolve enumeration values field for given enumeration class type.
              *
@@ -2290,10 +3665,12 @@ public abstract class AccessHelper {
              * @return  enumeration value.
              */
             protected static <Type extends Enum<Type>> Type create(Constructor<?> factory, Object[] args) {
-                Methods.invoke(factory, Helper.METHOD_ACQUIRE_CONSTRUCTOR_ACCESSOR, null);
+                Methods.invoke0(factory, Methods.resolve(factory.getClass(), //
+                        Helper.METHOD_ACQUIRE_CONSTRUCTOR_ACCESSOR, Base.EMPTY_TYPES));
                 Object target = Fields.<Object>get(factory, Helper.FIELD_CONSTRUCTOR_ACCESSOR);
-                return Methods.invoke(target, Helper.METHOD_CONSTRUCTOR_ACCESSOR_NEW_INSTANCE,
-                        new Class[] { Object[].class }, new Object[] { args });
+                return Methods.invoke1(target, Methods.resolve(target.getClass(), //
+                            Helper.METHOD_CONSTRUCTOR_ACCESSOR_NEW_INSTANCE, TYPES_CONSTRUCTOR_ACCESSOR_NEW_INSTANCE),
+                        args);
             }
 
             /**
@@ -2307,10 +3684,11 @@ public abstract class AccessHelper {
              * @return  enumeration values array.
              */
             protected static <Type extends Enum<Type>> Type[] update(Field field, Type... values) {
-                Object target = Methods.invoke(field, METHOD_ACQUIRE_FIELD_ACCESSOR, //
-                        new Class[] { boolean.class }, new Object[] { false });
-                Methods.invoke(target, METHOD_FIELD_ACCESSOR_SET, //
-                    new Class[] { Object.class, Object.class }, new Object[] { null, values });
+                Object target = Methods.invoke1(field, Methods.resolve(field.getClass(), //
+                            METHOD_ACQUIRE_FIELD_ACCESSOR, TYPES_ACQUIRE_FIELD_ACCESSOR), Boolean.FALSE);
+                Methods.invoke2(target, Methods.resolve(target.getClass(), //
+                        METHOD_FIELD_ACCESSOR_SET, TYPES_FIELD_ACCESSOR_SET), null, values);
+                Beans.Converters.reset(field.getDeclaringClass());
                 return values.clone();
             }
 
@@ -2485,10 +3863,22 @@ public abstract class AccessHelper {
             } else if ((name == null) || name.isEmpty()) {
                 throw Failure.create(Failure.Type.ARGUMENT, "name must not be null or empty [" + name + "]");
             }
-            Context<?> context = Context.create(name);
+            return Beans.get(target, Context.create(name));
+        }
+
+        /**
+         * Read target property value from given target object using given bean context.
+         *
+         * @param   <Type>   property value type.
+         * @param   target   target object value.
+         * @param   context  bean context.
+         *
+         * @return  property value.
+         */
+        private static <Type> Type get(Object target, Context<?> context) {
             Method method = Beans.getter(target.getClass(), context.getType(), context.getName(), context.getMode());
             if (method != null) {
-                return Methods.invoke(target, method, Base.EMPTY_ARGS);
+                return Methods.invoke0(target, method);
             }
             Field field = Beans.field(target.getClass(), context.getType(), context.getName(), context.getMode());
             if (field != null) {
@@ -2512,31 +3902,105 @@ public abstract class AccessHelper {
          *
          * @return  property value.
          */
-        @SuppressWarnings("unchecked")
         public static <Type> Type read(Object target, String name) {
+            return Beans.path(target, name).read(target);
+        }
+
+        /**
+         * Read primitive int property value identified by given target property name from given
+         * target object value (see {@link #read(Object, String)}). Elements of int arrays are read
+         * without boxing. Other property values are widened from short, byte, and char values, and
+         * fail for {@code null} and other values.
+         *
+         * @param   target  target object value.
+         * @param   name    target property name.
+         *
+         * @return  primitive int property value.
+         */
+        public static int readInt(Object target, String name) {
+            return Beans.path(target, name).readInt(target);
+        }
+
+        /**
+         * Read primitive long property value identified by given target property name from given
+         * target object value (see {@link #read(Object, String)}). Elements of long arrays are read
+         * without boxing. Other property values are widened from int, short, byte, and char values,
+         * and fail for {@code null} and other values.
+         *
+         * @param   target  target object value.
+         * @param   name    target property name.
+         *
+         * @return  primitive long property value.
+         */
+        public static long readLong(Object target, String name) {
+            return Beans.path(target, name).readLong(target);
+        }
+
+        /**
+         * Read primitive double property value identified by given target property name from given
+         * target object value (see {@link #read(Object, String)}). Elements of double arrays are
+         * read without boxing. Other property values are widened from any primitive numeric value,
+         * and fail for {@code null} and other values.
+         *
+         * @param   target  target object value.
+         * @param   name    target property name.
+         *
+         * @return  primitive double property value.
+         */
+        public static double readDouble(Object target, String name) {
+            return Beans.path(target, name).readDouble(target);
+        }
+
+        /**
+         * Read all target property values matching given target property name in given target
+         * object value (see {@link #read(Object, String)}). Path segments named {@code *} expand
+         * to all elements of arrays, lists, sets, and other iterables and to all values of maps,
+         * e.g. {@code orders[*].lines[*].amount}. The matching property values are resolved
+         * lazily while iterating without collecting intermediate values.
+         *
+         * @param   <Type>  property value type.
+         * @param   target  target object value.
+         * @param   name    target property name.
+         *
+         * @return  lazy iterable of matching property values.
+         */
+        public static <Type> Iterable<Type> readAll(Object target, String name) {
+            return Beans.path(target, name).readAll(target);
+        }
+
+        /**
+         * Read target property values identified by given target property names from given target
+         * object value (see {@link #read(Object, String)}). Shared property path prefixes are
+         * evaluated only once (see {@link PropertyBatch}).
+         *
+         * @param   target  target object value.
+         * @param   names   target property names.
+         *
+         * @return  property values aligned with given target property names.
+         */
+        public static Object[] readBatch(Object target, String... names) {
+            if (target == null) {
+                throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+            }
+            return PropertyBatch.compile(names).read(target);
+        }
+
+        /**
+         * Resolve compiled property path for given target property name after checking given target
+         * object value and target property name.
+         *
+         * @param   target  target object value.
+         * @param   name    target property name.
+         *
+         * @return  compiled property path.
+         */
+        private static PropertyPath path(Object target, String name) {
             if (target == null) {
                 throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
             } else if ((name == null) || name.isEmpty()) {
                 throw Failure.create(Failure.Type.ARGUMENT, "name must not be null or empty [" + name + "]");
             }
-            try {
-                Object actual = target;
-                Matcher matcher = Base.PATH.matcher(name);
-                while (matcher.find()) {
-                    actual = Helper.read(actual, matcher.group(Base.PATH_BEAN));
-                    if (matcher.group(Base.PATH_LIST) == null) {
-                        continue;
-                    }
-                    for (String sname : Base.LIST.split(matcher.group(Base.PATH_LIST))) {
-                        if (!sname.isEmpty()) {
-                            actual = Helper.read(actual, sname);
-                        }
-                    }
-                }
-                return (Type) actual;
-            } catch (RuntimeException except) {
-                throw Failure.create(Failure.Helper.message(target, name), except);
-            }
+            return PropertyPath.compile(name);
         }
 
         /**
@@ -2556,13 +4020,27 @@ public abstract class AccessHelper {
             } else if ((name == null) || name.isEmpty()) {
                 throw Failure.create(Failure.Type.ARGUMENT, "name must not be null or empty [" + name + "]");
             }
-            Context<?> context = Context.create(name, (value != null) ? value.getClass() : null);
+            return Beans.set(target, Context.create(name, (value != null) ? value.getClass() : null), value);
+        }
+
+        /**
+         * Write target property value for given target object using given bean context and return
+         * previous property value.
+         *
+         * @param   <Type>   property value type.
+         * @param   target   target object value.
+         * @param   context  bean context.
+         * @param   value    target property value.
+         *
+         * @return  previous field value.
+         */
+        private static <Type> Type set(Object target, Context<?> context, Type value) {
             Method method = Beans.getter(target.getClass(), context.getType(), context.getName(), context.getMode());
             if (method != null) {
-                Type before = Methods.invoke(target, method, Base.EMPTY_ARGS);
+                Type before = Methods.invoke0(target, method);
                 method = Beans.setter(target.getClass(), context.getType(), context.getName(), context.getMode());
                 if (method != null) {
-                    Methods.invoke(target, method, new Object[] { value });
+                    Methods.invoke1(target, method, value);
                     return before;
                 }
             }
@@ -2591,39 +4069,65 @@ public abstract class AccessHelper {
          * @return  previous property value.
          */
         public static <Type> Type write(Object target, String name, Type value) {
+            return Beans.path(target, name).write(target, value);
+        }
+
+        /**
+         * Write given target property values to properties identified by given target property
+         * names on given target object value and return previous property values (see {@link
+         * #write(Object, String, Object)}). Shared property path prefixes are evaluated only once
+         * and writes are applied in property path prefix order (see {@link PropertyBatch}).
+         *
+         * @param   target  target object value.
+         * @param   names   target property names.
+         * @param   values  target property values aligned with given target property names.
+         *
+         * @return  previous property values aligned with given target property names.
+         */
+        public static Object[] writeBatch(Object target, String[] names, Object[] values) {
             if (target == null) {
                 throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
-            } else if ((name == null) || name.isEmpty()) {
-                throw Failure.create(Failure.Type.ARGUMENT, "name must not be null or empty [" + name + "]");
-            }
-            try {
-                Object actual = target;
-                Matcher matcher = Base.PATH.matcher(name);
-                while (matcher.find() && !matcher.hitEnd()) {
-                    actual = Helper.read(actual, matcher.group(Base.PATH_BEAN));
-                    if (matcher.group(Base.PATH_LIST) == null) {
-                        continue;
-                    }
-                    for (String sname : Base.LIST.split(matcher.group(Base.PATH_LIST))) {
-                        if (!sname.isEmpty()) {
-                            actual = AccessHelper.Beans.read(actual, sname);
-                        }
-                    }
-                }
-                if (matcher.group(Base.PATH_LIST) == null) {
-                    return Helper.write(actual, matcher.group(Base.PATH_BEAN), value);
-                }
-                actual = Helper.read(actual, matcher.group(Base.PATH_BEAN));
-                List<String> snames = Arrays.asList(Base.LIST.split(matcher.group(Base.PATH_LIST)));
-                for (String sname : snames.subList(0, snames.size() - 1)) {
-                    if (!sname.isEmpty()) {
-                        actual = Helper.read(actual, sname);
-                    }
-                }
-                return Helper.write(actual, snames.get(snames.size() - 1), value);
-            } catch (RuntimeException except) {
-                throw Failure.create(Failure.Helper.message(target, name, value), except);
             }
+            return PropertyBatch.compile(names).write(target, values);
+        }
+
+        /**
+         * Write given primitive int property value to property identified by given target property
+         * name on given target object value (see {@link #write(Object, String, Object)}). Elements
+         * of int arrays are written without boxing.
+         *
+         * @param  target  target object value.
+         * @param  name    target property name.
+         * @param  value   primitive int property value.
+         */
+        public static void writeInt(Object target, String name, int value) {
+            Beans.path(target, name).writeInt(target, value);
+        }
+
+        /**
+         * Write given primitive long property value to property identified by given target property
+         * name on given target object value (see {@link #write(Object, String, Object)}). Elements
+         * of long arrays are written without boxing.
+         *
+         * @param  target  target object value.
+         * @param  name    target property name.
+         * @param  value   primitive long property value.
+         */
+        public static void writeLong(Object target, String name, long value) {
+            Beans.path(target, name).writeLong(target, value);
+        }
+
+        /**
+         * Write given primitive double property value to property identified by given target
+         * property name on given target object value (see {@link #write(Object, String, Object)}).
+         * Elements of double arrays are written without boxing.
+         *
+         * @param  target  target object value.
+         * @param  name    target property name.
+         * @param  value   primitive double property value.
+         */
+        public static void writeDouble(Object target, String name, double value) {
+            Beans.path(target, name).writeDouble(target, value);
         }
 
         /**
@@ -2638,27 +4142,13 @@ public abstract class AccessHelper {
          * @return  property field.
          */
         protected static Field field(Class<?> owner, Class<?> type, String name, Mode mode) {
-            Field field = Fields.resolve(owner, name, Failure.Mode.RETURN_NULL);
-            switch (mode) {
-                case KNOWN:
-                case TYPED:
-                    if (type == null) {
-                        throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
-                    }
-                    return ((field != null) && field.getType().equals(type)) ? field : null;
-
-                case NAMED:
-                case AUTO:
-                    if (field == null) {
-                        return null;
-                    } else if ((type == null) || Classes.assignable(field.getType(), type)) {
-                        return field;
-                    }
-                    return null;
-
-                default:
-                    throw Failure.create(Failure.Type.SUPPORT, "mode not supported [" + mode + "]");
+            Object key = Index.key(type, name, mode);
+            Reference<Field> cached = Index.FIELDS.get(owner, key);
+            Field result = (cached != null) ? cached.get() : null;
+            if ((result != null) || Cache.failed(cached)) {
+                return result;
             }
+            return Index.FIELDS.put(owner, key, Index.field(owner, type, name, mode));
         }
 
         /**
@@ -2673,61 +4163,13 @@ public abstract class AccessHelper {
          * @return  getter method.
          */
         protected static Method getter(Class<?> owner, Class<?> type, String name, Mode mode) {
-            switch (mode) {
-                case KNOWN: {
-                    if (type == null) {
-                        throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
-                    }
-                    Method method = Methods.resolve(owner, name, Failure.Mode.RETURN_NULL);
-                    return ((method != null) && method.getReturnType().equals(type)) ? method : null;
-                }
-
-                case NAMED: {
-                    Method method = Methods.resolve(owner, name, Failure.Mode.RETURN_NULL);
-                    return ((method != null) && Classes.assignable(method.getReturnType(), type)) ? method : null;
-                }
-
-                case TYPED:
-                    if (type == null) {
-                        throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
-                    }
-                    for (String fname : Beans.getter(type, name)) {
-                        Method method = Methods.resolve(owner, fname, Failure.Mode.RETURN_NULL);
-                        if ((method != null) && method.getReturnType().equals(type)) {
-                            return method;
-                        }
-                    }
-                    return null;
-
-                case AUTO:
-                    for (String fname : Beans.getter(type, name)) {
-                        Method method = Methods.resolve(owner, fname, Failure.Mode.RETURN_NULL);
-                        if ((method != null) && Classes.assignable(method.getReturnType(), type)) {
-                            return method;
-                        }
-                    }
-                    return null;
-
-                default:
-                    throw Failure.create(Failure.Type.SUPPORT, "mode not supported [" + mode + "]");
+            Object key = Index.key(type, name, mode);
+            Reference<Method> cached = Index.GETTERS.get(owner, key);
+            Method result = (cached != null) ? cached.get() : null;
+            if ((result != null) || Cache.failed(cached)) {
+                return result;
             }
-        }
-
-        /**
-         * Create list of accepted getter names for given property name and given property class
-         * type.
-         *
-         * @param   type  property class type.
-         * @param   name  property name.
-         *
-         * @return  list of accepted getter names.
-         */
-        private static String[] getter(Class<?> type, String name) {
-            String camel = Character.toUpperCase(name.charAt(0)) + name.substring(1);
-            if ((type == null) || (type == boolean.class) || (type == Boolean.class)) {
-                return new String[] { name, "get" + camel, "is" + camel, "has" + camel };
-            }
-            return new String[] { name, "get" + camel };
+            return Index.GETTERS.put(owner, key, Index.getter(owner, type, name, mode));
         }
 
         /**
@@ -2742,60 +4184,40 @@ public abstract class AccessHelper {
          * @return  setter method.
          */
         protected static Method setter(Class<?> owner, Class<?> type, String name, Mode mode) {
-            Class<?>[] types = (type != null) ? new Class<?>[] { type } : Base.ANY_TYPES;
-            switch (mode) {
-                case KNOWN:
-                    if (type == null) {
-                        throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
-                    }
-                    return Methods.resolve(owner, name, Failure.Mode.RETURN_NULL, types);
-
-                case NAMED:
-                    for (Method method : Methods.resolve(owner, name, types, void.class)) {
-                        return method;
-                    }
-                    return null;
-
-                case TYPED:
-                    if (type == null) {
-                        throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
-                    }
-                    for (String fname : Beans.setter(type, name)) {
-                        Method method = Methods.resolve(owner, fname, Failure.Mode.RETURN_NULL, types);
-                        if (method != null) {
-                            return method;
-                        }
-                    }
-                    return null;
-
-                case AUTO:
-                    for (String fname : Beans.setter(type, name)) {
-                        for (Method method : Methods.resolve(owner, fname, types, void.class)) {
-                            return method;
-                        }
-                    }
-                    return null;
-
-                default:
-                    throw Failure.create(Failure.Type.SUPPORT, "mode not supported [" + mode + "]");
+            Object key = Index.key(type, name, mode);
+            Reference<Method> cached = Index.SETTERS.get(owner, key);
+            Method result = (cached != null) ? cached.get() : null;
+            if ((result != null) || Cache.failed(cached)) {
+                return result;
             }
+            return Index.SETTERS.put(owner, key, Index.setter(owner, type, name, mode));
         }
 
         /**
-         * Create list of accepted setter names for given property name and given property class
-         * type.
+         * Resolve declared generic type of property for given declaring class type, property class
+         * type, and property name using given property resolution mode. The generic type is taken
+         * from the getter method, or the field if no getter method is available.
          *
-         * @param   type  property class type.
-         * @param   name  property name.
+         * @param   owner  declaring class type.
+         * @param   type   property class type (may be {@code null}).
+         * @param   name   property name.
+         * @param   mode   bean property resolution mode.
          *
-         * @return  list of accepted setter names.
+         * @return  declared generic type (may be null).
          */
-        private static String[] setter(Class<?> type, String name) {
-            String camel = Character.toUpperCase(name.charAt(0)) + name.substring(1);
-            if ((type == null) || (type == boolean.class) || (type == Boolean.class)) {
-                return new String[] { name, "set" + camel, "setIs" + camel, "setHas" + camel };
+        protected static java.lang.reflect.Type generic(Class<?> owner, Class<?> type, String name, Mode mode) {
+            Object key = Index.key(type, name, mode);
+            Reference<java.lang.reflect.Type> cached = Index.GENERICS.get(owner, key);
+            java.lang.reflect.Type result = (cached != null) ? cached.get() : null;
+            if ((result != null) || Cache.failed(cached)) {
+                return result;
+            }
+            Method method = Beans.getter(owner, type, name, mode);
+            if (method != null) {
+                return Index.GENERICS.put(owner, key, method.getGenericReturnType());
             }
-            return new String[] { name, "set" + camel };
+            Field field = Beans.field(owner, type, name, mode);
+            return Index.GENERICS.put(owner, key, (field != null) ? field.getGenericType() : null);
         }
 
         /**
@@ -2884,60 +4306,1843 @@ public abstract class AccessHelper {
             return type;
         }
 
-        /**
-         * Resolve property name from given getter/setter method.
-         *
-         * @param   method  getter/setter method.
-         *
-         * @return  property name.
-         */
-        protected static String name(Method method) {
-            String name = method.getName();
-            switch (method.getParameterTypes().length) {
-                case 0: {
-                    Class<?> type = method.getReturnType();
-                    if (Beans.check(type, name, "is", true)) {
-                        return Character.toLowerCase(name.charAt(2)) + name.substring(3);
-                    } else if (Beans.check(type, name, "has", true)) {
-                        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
-                    } else if (Beans.check(type, name, "get", false)) {
-                        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
-                    }
-                    return name;
+        /**
+         * Resolve property name from given getter/setter method.
+         *
+         * @param   method  getter/setter method.
+         *
+         * @return  property name.
+         */
+        protected static String name(Method method) {
+            String name = method.getName();
+            switch (method.getParameterTypes().length) {
+                case 0: {
+                    Class<?> type = method.getReturnType();
+                    if (Beans.check(type, name, "is", true)) {
+                        return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+                    } else if (Beans.check(type, name, "has", true)) {
+                        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+                    } else if (Beans.check(type, name, "get", false)) {
+                        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+                    }
+                    return name;
+                }
+
+                case 1:
+                    Class<?> type = method.getParameterTypes()[0];
+                    if (Beans.check(type, name, "setIs", true)) {
+                        return Character.toLowerCase(name.charAt(5)) + name.substring(6);
+                    } else if (Beans.check(type, name, "setHas", true)) {
+                        return Character.toLowerCase(name.charAt(6)) + name.substring(7);
+                    } else if (Beans.check(type, name, "set", false)) {
+                        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+                    }
+                    return name;
+
+                default:
+                    throw Failure.create(AccessHelper.Failure.Type.ARGUMENT,
+                        "method is no getter/setter [" + method.getName() + "]");
+            }
+        }
+
+        /**
+         * Check whether given bean property prefix is present and valid for given distinct property
+         * name and property class type. If the bean property prefix should only be valid for
+         * boolean class types, the bool flag enables a check on the given property class type.
+         *
+         * @param   type    property class type.
+         * @param   name    distinct property name.
+         * @param   prefix  bean property prefix.
+         * @param   bool    whether only allowed for boolean types.
+         *
+         * @return  given bean property prefix is present and valid.
+         */
+        private static boolean check(Class<?> type, String name, String prefix, boolean bool) {
+            return (!bool || (type == boolean.class) || (type == Boolean.class)) && name.startsWith(prefix)
+                && (name.length() > prefix.length()) && Character.isUpperCase(name.charAt(prefix.length()));
+        }
+
+        /**
+         * Per class property index remembering resolved property fields, getter methods, setter
+         * methods, and declared generic property types by property class type, property name, and
+         * property resolution mode. Candidate getter and setter names are only created and resolved
+         * on first lookup of a property.
+         */
+        private static final class Index {
+
+            /**
+             * Index of resolved property fields.
+             */
+            private static final Cache<Field> FIELDS = new Cache<Field>();
+
+            /**
+             * Index of resolved property getter methods.
+             */
+            private static final Cache<Method> GETTERS = new Cache<Method>();
+
+            /**
+             * Index of resolved property setter methods.
+             */
+            private static final Cache<Method> SETTERS = new Cache<Method>();
+
+            /**
+             * Index of resolved declared generic property types.
+             */
+            private static final Cache<java.lang.reflect.Type> GENERICS = new Cache<java.lang.reflect.Type>();
+
+            /**
+             * Create lookup key for given property class type (may be null), property name, and
+             * property resolution mode.
+             *
+             * @param   type  property class type (may be null).
+             * @param   name  property name.
+             * @param   mode  property resolution mode.
+             *
+             * @return  lookup key.
+             */
+            public static Object key(Class<?> type, String name, Mode mode) {
+                return Arrays.asList(name, type, mode);
+            }
+
+            /**
+             * Resolve field for given declaring class type, property class type, property field
+             * name, and property resolution mode (see {@link Beans#field(Class, Class, String,
+             * Mode)}).
+             *
+             * @param   owner  declaring class type.
+             * @param   type   property class type (may be {@code null}).
+             * @param   name   property field name.
+             * @param   mode   bean property resolution mode.
+             *
+             * @return  property field.
+             */
+            public static Field field(Class<?> owner, Class<?> type, String name, Mode mode) {
+                Field field = Fields.resolve(owner, name, Failure.Mode.RETURN_NULL);
+                switch (mode) {
+                    case KNOWN:
+                    case TYPED:
+                        if (type == null) {
+                            throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
+                        }
+                        return ((field != null) && field.getType().equals(type)) ? field : null;
+
+                    case NAMED:
+                    case AUTO:
+                        if (field == null) {
+                            return null;
+                        } else if ((type == null) || Classes.assignable(field.getType(), type)) {
+                            return field;
+                        }
+                        return null;
+
+                    default:
+                        throw Failure.create(Failure.Type.SUPPORT, "mode not supported [" + mode + "]");
+                }
+            }
+
+            /**
+             * Resolve getter method for given declaring class type, property class type, and
+             * property name using given property resolution mode (see {@link Beans#getter(Class,
+             * Class, String, Mode)}).
+             *
+             * @param   owner  declaring class type.
+             * @param   type   property class type (may be {@code null}).
+             * @param   name   property name.
+             * @param   mode   bean property resolution mode.
+             *
+             * @return  getter method.
+             */
+            public static Method getter(Class<?> owner, Class<?> type, String name, Mode mode) {
+                switch (mode) {
+                    case KNOWN: {
+                        if (type == null) {
+                            throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
+                        }
+                        Method method = Methods.resolve(owner, name, Failure.Mode.RETURN_NULL);
+                        return ((method != null) && method.getReturnType().equals(type)) ? method : null;
+                    }
+
+                    case NAMED: {
+                        Method method = Methods.resolve(owner, name, Failure.Mode.RETURN_NULL);
+                        return ((method != null) && Classes.assignable(method.getReturnType(), type)) ? method : null;
+                    }
+
+                    case TYPED:
+                        if (type == null) {
+                            throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
+                        }
+                        for (String fname : Index.getters(type, name)) {
+                            Method method = Methods.resolve(owner, fname, Failure.Mode.RETURN_NULL);
+                            if ((method != null) && method.getReturnType().equals(type)) {
+                                return method;
+                            }
+                        }
+                        return null;
+
+                    case AUTO:
+                        for (String fname : Index.getters(type, name)) {
+                            Method method = Methods.resolve(owner, fname, Failure.Mode.RETURN_NULL);
+                            if ((method != null) && Classes.assignable(method.getReturnType(), type)) {
+                                return method;
+                            }
+                        }
+                        return null;
+
+                    default:
+                        throw Failure.create(Failure.Type.SUPPORT, "mode not supported [" + mode + "]");
+                }
+            }
+
+            /**
+             * Resolve setter method for given declaring class type, property class type, and
+             * property name using given property resolution mode (see {@link Beans#setter(Class,
+             * Class, String, Mode)}).
+             *
+             * @param   owner  declaring class type.
+             * @param   type   property class type.
+             * @param   name   property name.
+             * @param   mode   property resolution mode.
+             *
+             * @return  setter method.
+             */
+            public static Method setter(Class<?> owner, Class<?> type, String name, Mode mode) {
+                Class<?>[] types = (type != null) ? new Class<?>[] { type } : Base.ANY_TYPES;
+                switch (mode) {
+                    case KNOWN:
+                        if (type == null) {
+                            throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
+                        }
+                        return Methods.resolve(owner, name, Failure.Mode.RETURN_NULL, types);
+
+                    case NAMED:
+                        for (Method method : Methods.resolve(owner, name, types, void.class)) {
+                            return method;
+                        }
+                        return null;
+
+                    case TYPED:
+                        if (type == null) {
+                            throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
+                        }
+                        for (String fname : Index.setters(type, name)) {
+                            Method method = Methods.resolve(owner, fname, Failure.Mode.RETURN_NULL, types);
+                            if (method != null) {
+                                return method;
+                            }
+                        }
+                        return null;
+
+                    case AUTO:
+                        for (String fname : Index.setters(type, name)) {
+                            for (Method method : Methods.resolve(owner, fname, types, void.class)) {
+                                return method;
+                            }
+                        }
+                        return null;
+
+                    default:
+                        throw Failure.create(Failure.Type.SUPPORT, "mode not supported [" + mode + "]");
+                }
+            }
+
+            /**
+             * Create list of accepted getter names for given property name and given property
+             * class type.
+             *
+             * @param   type  property class type.
+             * @param   name  property name.
+             *
+             * @return  list of accepted getter names.
+             */
+            private static String[] getters(Class<?> type, String name) {
+                String camel = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                if ((type == null) || (type == boolean.class) || (type == Boolean.class)) {
+                    return new String[] { name, "get" + camel, "is" + camel, "has" + camel };
+                }
+                return new String[] { name, "get" + camel };
+            }
+
+            /**
+             * Create list of accepted setter names for given property name and given property
+             * class type.
+             *
+             * @param   type  property class type.
+             * @param   name  property name.
+             *
+             * @return  list of accepted setter names.
+             */
+            private static String[] setters(Class<?> type, String name) {
+                String camel = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                if ((type == null) || (type == boolean.class) || (type == Boolean.class)) {
+                    return new String[] { name, "set" + camel, "setIs" + camel, "setHas" + camel };
+                }
+                return new String[] { name, "set" + camel };
+            }
+        }
+
+        /**
+         * Compiled property path. A property path string is parsed once into a sequence of path
+         * segments, that can be evaluated against any number of target objects without repeated
+         * parsing. Compiled property paths are interned in a bounded cache, so that reading and
+         * writing the same property path string repeatedly reuses the compiled property path.
+         */
+        public static final class PropertyPath {
+
+            /**
+             * Maximum number of interned property paths.
+             */
+            private static final int CACHE_SIZE = 1024;
+
+            /**
+             * Cache of interned property paths.
+             */
+            private static final ConcurrentMap<String, PropertyPath> CACHE =
+                new ConcurrentHashMap<String, PropertyPath>();
+
+            /**
+             * Property path string.
+             */
+            private final String path;
+
+            /**
+             * Path segments evaluated in sequence.
+             */
+            private final Segment[] segments;
+
+            /**
+             * Create property path with given property path string and given path segments.
+             *
+             * @param  path      property path string.
+             * @param  segments  path segments.
+             */
+            private PropertyPath(String path, Segment[] segments) {
+                this.path = path;
+                this.segments = segments;
+            }
+
+            /**
+             * Resolve interned compiled property path for given property path string.
+             *
+             * @param   path  property path string.
+             *
+             * @return  compiled property path.
+             */
+            public static PropertyPath compile(String path) {
+                if ((path == null) || path.isEmpty()) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "path must not be null or empty [" + path + "]");
+                }
+                PropertyPath cached = CACHE.get(path);
+                if (cached != null) {
+                    return cached;
+                } else if (CACHE.size() >= CACHE_SIZE) {
+                    CACHE.clear();
+                }
+                PropertyPath compiled = PropertyPath.parse(path);
+                cached = CACHE.putIfAbsent(path, compiled);
+                return (cached != null) ? cached : compiled;
+            }
+
+            /**
+             * Parse given property path string into compiled property path.
+             *
+             * @param   path  property path string.
+             *
+             * @return  compiled property path.
+             */
+            protected static PropertyPath parse(String path) {
+                List<String> names = PropertyPath.scan(path);
+                Segment[] segments = new Segment[names.size()];
+                for (int index = 0; index < segments.length; index++) {
+                    segments[index] = new Segment(names.get(index));
+                }
+                return new PropertyPath(path, segments);
+            }
+
+            /**
+             * Scan given property path string into list of path segment names.
+             *
+             * @param   path  property path string.
+             *
+             * @return  list of path segment names.
+             */
+            protected static List<String> scan(String path) {
+                return new Scanner(path).scan();
+            }
+
+            /**
+             * Return list of path segment names of this property path.
+             *
+             * @return  list of path segment names.
+             */
+            public List<String> segments() {
+                List<String> names = new ArrayList<String>(this.segments.length);
+                for (Segment segment : this.segments) {
+                    names.add(segment.getName());
+                }
+                return names;
+            }
+
+            /**
+             * Read target property value identified by this property path from given target object
+             * value (see {@link Beans#read(Object, String)}).
+             *
+             * @param   <Type>  property value type.
+             * @param   target  target object value.
+             *
+             * @return  property value.
+             */
+            @SuppressWarnings("unchecked")
+            public <Type> Type read(Object target) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    Object actual = target;
+                    java.lang.reflect.Type generic = null;
+                    for (Segment segment : this.segments) {
+                        Object next = Helper.read(actual, segment, generic);
+                        generic = Helper.generic(actual, segment, generic, next);
+                        actual = next;
+                    }
+                    return (Type) actual;
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path), except);
+                }
+            }
+
+            /**
+             * Write given target property value to property identified by this property path on
+             * given target object value and return previous property value (see {@link
+             * Beans#write(Object, String, Object)}).
+             *
+             * @param   <Type>  property value type.
+             * @param   target  target object value.
+             * @param   value   target property value.
+             *
+             * @return  previous property value.
+             */
+            public <Type> Type write(Object target, Type value) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    java.lang.reflect.Type[] generic = new java.lang.reflect.Type[1];
+                    Object parent = this.parent(target, generic);
+                    return Helper.write(parent, this.segments[this.segments.length - 1], value, generic[0]);
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path, value), except);
+                }
+            }
+
+            /**
+             * Read primitive int property value identified by this property path from given target
+             * object value (see {@link Beans#readInt(Object, String)}).
+             *
+             * @param   target  target object value.
+             *
+             * @return  primitive int property value.
+             */
+            public int readInt(Object target) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    java.lang.reflect.Type[] generic = new java.lang.reflect.Type[1];
+                    Object parent = this.parent(target, generic);
+                    return Helper.readInt(parent, this.segments[this.segments.length - 1], generic[0]);
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path), except);
+                }
+            }
+
+            /**
+             * Read primitive long property value identified by this property path from given target
+             * object value (see {@link Beans#readLong(Object, String)}).
+             *
+             * @param   target  target object value.
+             *
+             * @return  primitive long property value.
+             */
+            public long readLong(Object target) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    java.lang.reflect.Type[] generic = new java.lang.reflect.Type[1];
+                    Object parent = this.parent(target, generic);
+                    return Helper.readLong(parent, this.segments[this.segments.length - 1], generic[0]);
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path), except);
+                }
+            }
+
+            /**
+             * Read primitive double property value identified by this property path from given
+             * target object value (see {@link Beans#readDouble(Object, String)}).
+             *
+             * @param   target  target object value.
+             *
+             * @return  primitive double property value.
+             */
+            public double readDouble(Object target) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    java.lang.reflect.Type[] generic = new java.lang.reflect.Type[1];
+                    Object parent = this.parent(target, generic);
+                    return Helper.readDouble(parent, this.segments[this.segments.length - 1], generic[0]);
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path), except);
+                }
+            }
+
+            /**
+             * Read all target property values matching this property path in given target object
+             * value (see {@link Beans#readAll(Object, String)}).
+             *
+             * @param   <Type>  property value type.
+             * @param   target  target object value.
+             *
+             * @return  lazy iterable of matching property values.
+             */
+            public <Type> Iterable<Type> readAll(Object target) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                return new Expansion<Type>(this, target);
+            }
+
+            /**
+             * Write given primitive int property value to property identified by this property path
+             * on given target object value (see {@link Beans#writeInt(Object, String, int)}).
+             *
+             * @param  target  target object value.
+             * @param  value   primitive int property value.
+             */
+            public void writeInt(Object target, int value) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    java.lang.reflect.Type[] generic = new java.lang.reflect.Type[1];
+                    Object parent = this.parent(target, generic);
+                    Helper.writeInt(parent, this.segments[this.segments.length - 1], value, generic[0]);
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path, value), except);
+                }
+            }
+
+            /**
+             * Write given primitive long property value to property identified by this property path
+             * on given target object value (see {@link Beans#writeLong(Object, String, long)}).
+             *
+             * @param  target  target object value.
+             * @param  value   primitive long property value.
+             */
+            public void writeLong(Object target, long value) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    java.lang.reflect.Type[] generic = new java.lang.reflect.Type[1];
+                    Object parent = this.parent(target, generic);
+                    Helper.writeLong(parent, this.segments[this.segments.length - 1], value, generic[0]);
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path, value), except);
+                }
+            }
+
+            /**
+             * Write given primitive double property value to property identified by this property
+             * path on given target object value (see {@link Beans#writeDouble(Object, String,
+             * double)}).
+             *
+             * @param  target  target object value.
+             * @param  value   primitive double property value.
+             */
+            public void writeDouble(Object target, double value) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                try {
+                    java.lang.reflect.Type[] generic = new java.lang.reflect.Type[1];
+                    Object parent = this.parent(target, generic);
+                    Helper.writeDouble(parent, this.segments[this.segments.length - 1], value, generic[0]);
+                } catch (RuntimeException except) {
+                    throw Failure.create(Failure.Helper.message(target, this.path, value), except);
+                }
+            }
+
+            /**
+             * Resolve parent object value of the last path segment of this property path in given
+             * target object value, storing the declared generic type of the parent object value in
+             * given single element generic type array.
+             *
+             * @param   target   target object value.
+             * @param   generic  single element array receiving declared generic type of parent.
+             *
+             * @return  parent object value of last path segment.
+             */
+            private Object parent(Object target, java.lang.reflect.Type[] generic) {
+                int last = this.segments.length - 1;
+                if (last < 0) {
+                    throw Failure.probe(Failure.Type.ARGUMENT, "path not writable [" + this.path + "]");
+                }
+                Object actual = target;
+                for (int index = 0; index < last; index++) {
+                    Object next = Helper.read(actual, this.segments[index], generic[0]);
+                    generic[0] = Helper.generic(actual, this.segments[index], generic[0], next);
+                    actual = next;
+                }
+                return actual;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public int hashCode() {
+                return this.path.hashCode();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                } else if ((obj == null) || (this.getClass() != obj.getClass())) {
+                    return false;
+                }
+                return this.path.equals(((PropertyPath) obj).path);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public String toString() {
+                return this.path;
+            }
+
+            /**
+             * Lazy iterable of all property values matching a property path in a target object
+             * value. Each iteration evaluates the property path anew.
+             *
+             * @param  <Type>  property value type.
+             */
+            private static final class Expansion<Type> implements Iterable<Type> {
+
+                /**
+                 * Property path to expand.
+                 */
+                private final PropertyPath path;
+
+                /**
+                 * Target object value.
+                 */
+                private final Object target;
+
+                /**
+                 * Create lazy iterable for given property path and target object value.
+                 *
+                 * @param  path    property path to expand.
+                 * @param  target  target object value.
+                 */
+                private Expansion(PropertyPath path, Object target) {
+                    this.path = path;
+                    this.target = target;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Iterator<Type> iterator() {
+                    return new Walker<Type>(this.path, this.target);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public String toString() {
+                    return this.path.path + "[*]";
+                }
+            }
+
+            /**
+             * Depth first iterator over all property values matching a property path in a target
+             * object value. The walker keeps a single iterator per path segment, so that memory
+             * usage only depends on the property path length, but not on the number of matching
+             * property values. Intermediate {@code null} values do not match.
+             *
+             * @param  <Type>  property value type.
+             */
+            private static final class Walker<Type> implements Iterator<Type> {
+
+                /**
+                 * Property path to expand.
+                 */
+                private final PropertyPath path;
+
+                /**
+                 * Target object value.
+                 */
+                private final Object target;
+
+                /**
+                 * Iterators of candidate values per path depth.
+                 */
+                private final Iterator<?>[] iters;
+
+                /**
+                 * Container values per path depth, i.e. the source of the candidate values.
+                 */
+                private final Object[] parents;
+
+                /**
+                 * Declared generic types of the container values per path depth.
+                 */
+                private final java.lang.reflect.Type[] generics;
+
+                /**
+                 * Actual path depth.
+                 */
+                private int depth;
+
+                /**
+                 * Whether next matching property value is resolved.
+                 */
+                private boolean ready;
+
+                /**
+                 * Next matching property value.
+                 */
+                private Object next;
+
+                /**
+                 * Create depth first iterator for given property path and target object value.
+                 *
+                 * @param  path    property path to expand.
+                 * @param  target  target object value.
+                 */
+                private Walker(PropertyPath path, Object target) {
+                    int length = path.segments.length + 1;
+                    this.path = path;
+                    this.target = target;
+                    this.iters = new Iterator<?>[length];
+                    this.parents = new Object[length];
+                    this.generics = new java.lang.reflect.Type[length];
+                    this.iters[0] = Collections.singleton(target).iterator();
+                }
+
+                /**
+                 * Resolve iterator over all candidate values of given path segment in given
+                 * container value.
+                 *
+                 * @param   value    container value.
+                 * @param   segment  path segment.
+                 * @param   generic  declared generic type of container value (may be null).
+                 *
+                 * @return  iterator over candidate values.
+                 */
+                private static Iterator<?> expand(Object value, Segment segment, java.lang.reflect.Type generic) {
+                    if (!"*".equals(segment.getName())) {
+                        return Collections.singleton(Helper.read(value, segment, generic)).iterator();
+                    } else if (value instanceof Object[]) {
+                        return Arrays.asList((Object[]) value).iterator();
+                    } else if (value.getClass().isArray()) {
+                        return new Elements(value);
+                    } else if (value instanceof Map<?, ?>) {
+                        return ((Map<?, ?>) value).values().iterator();
+                    } else if (value instanceof Iterable<?>) {
+                        return ((Iterable<?>) value).iterator();
+                    }
+                    throw Failure.create(value.getClass());
+                }
+
+                /**
+                 * Advance to next matching property value.
+                 *
+                 * @return  whether a next matching property value exists.
+                 */
+                private boolean advance() {
+                    Segment[] segments = this.path.segments;
+                    while (this.depth >= 0) {
+                        if (!this.iters[this.depth].hasNext()) {
+                            this.iters[this.depth--] = null;
+                            continue;
+                        }
+                        Object value = this.iters[this.depth].next();
+                        if (this.depth == segments.length) {
+                            this.next = value;
+                            return true;
+                        } else if (value == null) {
+                            continue;
+                        }
+                        java.lang.reflect.Type generic = (this.depth == 0) ? null
+                            : Helper.generic(this.parents[this.depth], segments[this.depth - 1],
+                                this.generics[this.depth], value);
+                        Iterator<?> iter = Walker.expand(value, segments[this.depth], generic);
+                        this.depth++;
+                        this.iters[this.depth] = iter;
+                        this.parents[this.depth] = value;
+                        this.generics[this.depth] = generic;
+                    }
+                    return false;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean hasNext() {
+                    if (!this.ready) {
+                        try {
+                            this.ready = this.advance();
+                        } catch (RuntimeException except) {
+                            throw Failure.create(Failure.Helper.message(this.target, this.path.path), except);
+                        }
+                    }
+                    return this.ready;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @SuppressWarnings("unchecked")
+                public Type next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException(this.path.path);
+                    }
+                    this.ready = false;
+                    Object value = this.next;
+                    this.next = null;
+                    return (Type) value;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void remove() {
+                    throw new UnsupportedOperationException("remove");
+                }
+            }
+
+            /**
+             * Iterator over the elements of a primitive array.
+             */
+            private static final class Elements implements Iterator<Object> {
+
+                /**
+                 * Primitive array.
+                 */
+                private final Object array;
+
+                /**
+                 * Length of primitive array.
+                 */
+                private final int length;
+
+                /**
+                 * Index of next element.
+                 */
+                private int index;
+
+                /**
+                 * Create iterator over the elements of given primitive array.
+                 *
+                 * @param  array  primitive array.
+                 */
+                private Elements(Object array) {
+                    this.array = array;
+                    this.length = Array.getLength(array);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean hasNext() {
+                    return this.index < this.length;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Object next() {
+                    if (this.index >= this.length) {
+                        throw new NoSuchElementException(String.valueOf(this.index));
+                    }
+                    return Array.get(this.array, this.index++);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void remove() {
+                    throw new UnsupportedOperationException("remove");
+                }
+            }
+
+            /**
+             * Single pass property path scanner. A property path consists of bean property names
+             * separated by dot ('.') or comma (','), each optionally qualified by a class name
+             * ({@code type=name} or {@code (type=name)}, where the parenthesized form allows any
+             * character but ')' in the name), and optionally followed by a bracketed list of
+             * sub-property names separated by comma (',') or {@code ][}. Separators and brackets
+             * inside bracketed lists can be escaped by a backslash ('\'). Escapes are kept in the
+             * resulting path segment names.
+             */
+            private static final class Scanner {
+
+                /**
+                 * Property path string.
+                 */
+                private final String path;
+
+                /**
+                 * Length of property path string.
+                 */
+                private final int length;
+
+                /**
+                 * Path segment names scanned so far.
+                 */
+                private final List<String> names = new ArrayList<String>();
+
+                /**
+                 * Actual scan offset.
+                 */
+                private int offset;
+
+                /**
+                 * Offset of the last found class name qualifier separator ('=') or list separator
+                 * (','), or length of path if none is left. It stays the first separator for all
+                 * start offsets not beyond it.
+                 */
+                private int next = -1;
+
+                /**
+                 * Create property path scanner for given property path string.
+                 *
+                 * @param  path  property path string.
+                 */
+                private Scanner(String path) {
+                    this.path = path;
+                    this.length = path.length();
+                }
+
+                /**
+                 * Scan property path string into path segment names. Empty bean property names
+                 * between separators are skipped.
+                 *
+                 * @return  list of path segment names.
+                 */
+                public List<String> scan() {
+                    while (this.offset < this.length) {
+                        if (!this.bean()) {
+                            char next = this.path.charAt(this.offset);
+                            if ((next != '.') && (next != ',')) {
+                                throw this.failure("unexpected character", this.offset);
+                            }
+                            this.offset++;
+                        }
+                    }
+                    return this.names;
+                }
+
+                /**
+                 * Scan bean property name at actual scan offset including its bracketed list of
+                 * sub-property names and its trailing separator.
+                 *
+                 * @return  whether a bean property name was found.
+                 */
+                private boolean bean() {
+                    int start = this.offset;
+                    int end = start;
+                    if (this.path.charAt(start) == '(') {
+                        int stop = this.stop(start + 1);
+                        if ((stop < this.length) && (this.path.charAt(stop) == '=')) {
+                            int close = this.path.indexOf(')', stop + 1);
+                            end = (close > (stop + 1)) ? close : start;
+                        }
+                        start++;
+                    }
+                    if (end <= start) {
+                        end = this.name(start);
+                        if (end == start) {
+                            return false;
+                        }
+                    }
+                    this.names.add(this.path.substring(start, end));
+                    this.offset = ((end < this.length) && (this.path.charAt(end) == ')')) ? (end + 1) : end;
+                    this.list();
+                    if ((this.offset < this.length)
+                            && ((this.path.charAt(this.offset) == '.') || (this.path.charAt(this.offset) == ','))) {
+                        this.offset++;
+                    }
+                    return true;
+                }
+
+                /**
+                 * Scan optionally qualified bean property name starting at given offset and
+                 * return the end offset of the name (equals start offset if no name was found).
+                 *
+                 * @param   start  start offset.
+                 *
+                 * @return  end offset of bean property name.
+                 */
+                private int name(int start) {
+                    int stop = this.stop(start);
+                    if ((stop > start) && ((stop + 1) < this.length) && (this.path.charAt(stop) == '=')
+                            && Scanner.simple(this.path.charAt(stop + 1))) {
+                        start = stop + 1;
+                    }
+                    while ((start < this.length) && Scanner.simple(this.path.charAt(start))) {
+                        start++;
+                    }
+                    return start;
+                }
+
+                /**
+                 * Return offset of first class name qualifier separator ('=') or list separator (',')
+                 * starting at given offset (length of path if not found). The path is only rescanned
+                 * once the given offset has passed the last found separator, so that scanning a path
+                 * stays linear.
+                 *
+                 * @param   start  start offset.
+                 *
+                 * @return  offset of first separator.
+                 */
+                private int stop(int start) {
+                    if (start <= this.next) {
+                        return this.next;
+                    }
+                    while ((start < this.length) && (this.path.charAt(start) != '=')
+                            && (this.path.charAt(start) != ',')) {
+                        start++;
+                    }
+                    this.next = start;
+                    return start;
+                }
+
+                /**
+                 * Scan bracketed list of sub-property names at actual scan offset, if available.
+                 */
+                private void list() {
+                    int open = this.offset;
+                    if ((open >= this.length) || (this.path.charAt(open) != '[') || this.escaped(open)) {
+                        return;
+                    }
+                    int begin = open + 1;
+                    for (int index = begin; index < this.length; index++) {
+                        char next = this.path.charAt(index);
+                        if (((next != ',') && (next != ']')) || this.escaped(index)) {
+                            continue;
+                        } else if (next == ',') {
+                            this.add(begin, index);
+                            begin = index + 1;
+                        } else if (((index + 1) < this.length) && (this.path.charAt(index + 1) == '[')) {
+                            this.add(begin, index);
+                            begin = ++index + 1;
+                        } else {
+                            this.add(begin, index);
+                            this.offset = index + 1;
+                            return;
+                        }
+                    }
+                    throw this.failure("unclosed list", open);
+                }
+
+                /**
+                 * Add path segment name for sub-property name between given begin and end offset,
+                 * if the sub-property name is not empty.
+                 *
+                 * @param  begin  begin offset.
+                 * @param  end    end offset.
+                 */
+                private void add(int begin, int end) {
+                    if (begin < end) {
+                        this.names.add(this.path.substring(begin, end));
+                    }
+                }
+
+                /**
+                 * Check whether the character at given offset is escaped by a backslash.
+                 *
+                 * @param   index  character offset.
+                 *
+                 * @return  whether the character is escaped.
+                 */
+                private boolean escaped(int index) {
+                    return (index > 0) && (this.path.charAt(index - 1) == '\\');
+                }
+
+                /**
+                 * Create property path failure with given failure reason and failing offset.
+                 *
+                 * @param   reason  failure reason.
+                 * @param   index   failing offset.
+                 *
+                 * @return  property path failure.
+                 */
+                private Failure failure(String reason, int index) {
+                    return Failure.create(Failure.Type.ARGUMENT,
+                            reason + " [path=" + this.path + ", offset=" + index + "]");
+                }
+
+                /**
+                 * Check whether given character is allowed in simple bean property names.
+                 *
+                 * @param   next  character.
+                 *
+                 * @return  whether character is allowed.
+                 */
+                private static boolean simple(char next) {
+                    switch (next) {
+                        case '.':
+                        case ',':
+                        case '(':
+                        case ')':
+                        case '[':
+                        case ']':
+                            return false;
+
+                        default:
+                            return true;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Key converter creating map keys and collection elements from property path segment
+         * names.
+         *
+         * @param  <Type>  key type.
+         */
+        public static interface Converter<Type> {
+
+            /**
+             * Convert given property path segment name into key value.
+             *
+             * @param   name  property path segment name.
+             *
+             * @return  key value.
+             */
+            public Type convert(String name);
+        }
+
+        /**
+         * Registry of key converters by key class type. The registry provides standard converters
+         * for strings, numbers, booleans, characters, class types, and UUIDs and allows to register
+         * custom converters. For other key class types a converter is resolved once and cached,
+         * using the first static {@code valueOf(String)}, {@code fromString(String)}, {@code
+         * parse(CharSequence)}, or {@code parse(String)} factory method, or the string constructor.
+         * This also covers enums and date and time types providing a {@code parse} method.
+         */
+        public static final class Converters {
+
+            /**
+             * Standard and registered key converters by key class type.
+             */
+            private static final ConcurrentMap<Class<?>, Converter<?>> REGISTRY =
+                new ConcurrentHashMap<Class<?>, Converter<?>>();
+
+            /**
+             * Cache of resolved key converters by key class type.
+             */
+            private static final Cache<Converter<?>> HANDLES = new Cache<Converter<?>>();
+
+            /**
+             * Java time class type names and static parse method names in registration order. The
+             * class types are resolved by name, since they are not available on all runtimes.
+             */
+            private static final String[][] TIMES = new String[][] {
+                    { "java.time.Duration", "parse" }, { "java.time.Instant", "parse" },
+                    { "java.time.LocalDate", "parse" }, { "java.time.LocalDateTime", "parse" },
+                    { "java.time.LocalTime", "parse" }, { "java.time.MonthDay", "parse" },
+                    { "java.time.OffsetDateTime", "parse" }, { "java.time.OffsetTime", "parse" },
+                    { "java.time.Period", "parse" }, { "java.time.Year", "parse" },
+                    { "java.time.YearMonth", "parse" }, { "java.time.ZonedDateTime", "parse" },
+                    { "java.time.ZoneId", "of" }, { "java.time.ZoneOffset", "of" }
+                };
+
+            static {
+                for (Class<?> type : Standard.TYPES) {
+                    REGISTRY.put(type, new Standard(type));
+                }
+                for (String[] time : TIMES) {
+                    Class<?> type = Classes.resolve(time[0], Failure.Mode.RETURN_NULL);
+                    if (type != null) {
+                        Method method = Methods.resolve(type, time[1], Failure.Mode.RETURN_NULL, //
+                                (time[1].equals("parse")) ? CharSequence.class : String.class);
+                        if (method != null) {
+                            REGISTRY.put(type, new Handle(type, method, null));
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Static factory methods by name and argument type in lookup order.
+             */
+            private static final Object[][] FACTORIES = new Object[][] {
+                    { "valueOf", String.class }, { "fromString", String.class },
+                    { "parse", CharSequence.class }, { "parse", String.class }
+                };
+
+            /**
+             * Register given key converter for given key class type, replacing any key converter
+             * registered or resolved before.
+             *
+             * @param  <Type>      key type.
+             * @param  type        key class type.
+             * @param  converter   key converter.
+             */
+            public static <Type> void register(Class<Type> type, Converter<? extends Type> converter) {
+                if (type == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "type must not be null");
+                } else if (converter == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "converter must not be null");
+                }
+                REGISTRY.put(type, converter);
+            }
+
+            /**
+             * Resolve key converter for given key class type.
+             *
+             * @param   <Type>  key type.
+             * @param   type    key class type.
+             *
+             * @return  key converter.
+             */
+            @SuppressWarnings("unchecked")
+            public static <Type> Converter<Type> lookup(Class<Type> type) {
+                Converter<?> converter = REGISTRY.get(type);
+                if (converter == null) {
+                    Reference<Converter<?>> cached = HANDLES.get(type, Converter.class);
+                    converter = (cached != null) ? cached.get() : null;
+                    if ((converter == null) && !Cache.failed(cached)) {
+                        converter = HANDLES.put(type, Converter.class, Converters.resolve(type));
+                    }
+                }
+                return (Converter<Type>) converter;
+            }
+
+            /**
+             * Convert given property path segment name into key value of given key class type.
+             *
+             * @param   <Type>  key type.
+             * @param   type    key class type.
+             * @param   name    property path segment name.
+             *
+             * @return  key value.
+             */
+            public static <Type> Type convert(Class<Type> type, String name) {
+                return Converters.lookup(type).convert(name);
+            }
+
+            /**
+             * Convert given property path segment name into collection element value of given
+             * element class type. In contrast to {@link #convert(Class, String)} integral numbers
+             * of standard number types are parsed as plain decimal numbers, i.e. {@code 010} is
+             * converted to {@code 10}, as collection elements have always been looked up this way.
+             *
+             * @param   <Type>  element type.
+             * @param   type    element class type.
+             * @param   name    property path segment name.
+             *
+             * @return  element value.
+             */
+            @SuppressWarnings("unchecked")
+            private static <Type> Type element(Class<Type> type, String name) {
+                Converter<Type> converter = Converters.lookup(type);
+                if (converter instanceof Standard) {
+                    return (Type) ((Standard) converter).decimal(name);
+                }
+                return converter.convert(name);
+            }
+
+            /**
+             * Resolve key converter for given key class type using the cached enumeration values,
+             * the static factory methods, or the string constructor. Enumeration values with
+             * constant specific class bodies are converted using their enumeration class type.
+             *
+             * @param   type  key class type.
+             *
+             * @return  key converter.
+             */
+            private static Converter<?> resolve(Class<?> type) {
+                if (Enum.class.isAssignableFrom(type)) {
+                    return new Constants(type.isEnum() ? type : type.getSuperclass());
+                } else if (!Number.class.isAssignableFrom(type)) {
+                    for (Object[] factory : FACTORIES) {
+                        Method method = Methods.resolve(type, (String) factory[0], Failure.Mode.RETURN_NULL,
+                                (Class<?>) factory[1]);
+                        if ((method != null) && Modifier.isStatic(method.getModifiers())
+                                && type.isAssignableFrom(method.getReturnType())) {
+                            return new Handle(type, method, null);
+                        }
+                    }
+                }
+                return new Handle(type, null, Objects.resolve(type, Failure.Mode.RETURN_NULL, Base.STRING_TYPES));
+            }
+
+            /**
+             * Reset the cached enumeration values of the resolved key converter of given enumeration
+             * class type after the enumeration values have been updated.
+             *
+             * @param  type  enumeration class type.
+             */
+            private static void reset(Class<?> type) {
+                Reference<Converter<?>> cached = HANDLES.get(type, Converter.class);
+                Converter<?> converter = (cached != null) ? cached.get() : null;
+                if (converter instanceof Constants) {
+                    ((Constants) converter).constants = null;
+                }
+            }
+
+            /**
+             * Standard key converter for strings, numbers, booleans, characters, class types, and
+             * UUIDs. Integral numbers are decoded, i.e. may be given in hexadecimal or octal form.
+             */
+            private static final class Standard implements Converter<Object> {
+
+                /**
+                 * Key class types supported by standard key converters.
+                 */
+                private static final Class<?>[] TYPES = new Class<?>[] {
+                        String.class, Long.class, Integer.class, Short.class, Byte.class, Double.class,
+                        Float.class, BigInteger.class, BigDecimal.class, Boolean.class, Character.class,
+                        Class.class, UUID.class
+                    };
+
+                /**
+                 * Key class type.
+                 */
+                private final Class<?> type;
+
+                /**
+                 * Create standard key converter for given key class type.
+                 *
+                 * @param  type  key class type.
+                 */
+                private Standard(Class<?> type) {
+                    this.type = type;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Object convert(String name) {
+                    if (this.type == String.class) {
+                        return name;
+                    } else if (this.type == Long.class) {
+                        return Long.decode(name);
+                    } else if (this.type == Integer.class) {
+                        return Integer.valueOf(Long.decode(name).intValue());
+                    } else if (this.type == Short.class) {
+                        return Short.valueOf(Long.decode(name).shortValue());
+                    } else if (this.type == Byte.class) {
+                        return Byte.valueOf(Long.decode(name).byteValue());
+                    } else if (this.type == Double.class) {
+                        return Double.valueOf(name);
+                    } else if (this.type == Float.class) {
+                        return Float.valueOf(name);
+                    } else if (this.type == BigInteger.class) {
+                        return new BigInteger(name);
+                    } else if (this.type == BigDecimal.class) {
+                        return new BigDecimal(name);
+                    } else if (this.type == Boolean.class) {
+                        return Boolean.valueOf(name);
+                    } else if (this.type == Character.class) {
+                        return name.charAt(0);
+                    } else if (this.type == Class.class) {
+                        return Classes.find(name);
+                    } else if (this.type == UUID.class) {
+                        return UUID.fromString(name);
+                    }
+                    throw Failure.create(this.type);
+                }
+
+                /**
+                 * Convert given property path segment name into key value parsing integral numbers
+                 * as plain decimal numbers.
+                 *
+                 * @param   name  property path segment name.
+                 *
+                 * @return  key value.
+                 */
+                public Object decimal(String name) {
+                    if (this.type == Long.class) {
+                        return Long.valueOf(name);
+                    } else if (this.type == Integer.class) {
+                        return Integer.valueOf(name);
+                    } else if (this.type == Short.class) {
+                        return Short.valueOf(name);
+                    } else if (this.type == Byte.class) {
+                        return Byte.valueOf(name);
+                    }
+                    return this.convert(name);
+                }
+            }
+
+            /**
+             * Key converter for enumeration class types using a cached lookup of enumeration values
+             * by name. The lookup is rebuilt on demand after the enumeration values have been
+             * updated via {@link Enums}. Unknown names are resolved via {@link Enums} to report
+             * the same failures.
+             */
+            private static final class Constants implements Converter<Object> {
+
+                /**
+                 * Enumeration class type.
+                 */
+                private final Class<?> type;
+
+                /**
+                 * Cached enumeration values by name (may be null).
+                 */
+                private volatile Map<String, Object> constants;
+
+                /**
+                 * Create key converter for given enumeration class type.
+                 *
+                 * @param  type  enumeration class type.
+                 */
+                private Constants(Class<?> type) {
+                    this.type = type;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                public Object convert(String name) {
+                    Map<String, Object> constants = this.constants;
+                    if (constants == null) {
+                        constants = new HashMap<String, Object>();
+                        for (Enum<?> value : Fields.<Enum<?>[]>get(this.type, Enums.Helper.resolve(this.type))) {
+                            constants.put(value.name(), value);
+                        }
+                        this.constants = constants;
+                    }
+                    Object value = constants.get(name);
+                    return (value != null) ? value : Enums.resolve((Class<Enum>) this.type, name, Failure.Mode.DEFAULT);
+                }
+            }
+
+            /**
+             * Key converter using a cached static factory method or string constructor, e.g. the
+             * parse methods of java time class types. If neither is available, number types are not
+             * supported and other types are created via {@link Objects#create(Class, Class[],
+             * Object...)}.
+             */
+            private static final class Handle implements Converter<Object> {
+
+                /**
+                 * Key class type.
+                 */
+                private final Class<?> type;
+
+                /**
+                 * Static factory method (may be null).
+                 */
+                private final Method method;
+
+                /**
+                 * String constructor (may be null).
+                 */
+                private final Constructor<?> factory;
+
+                /**
+                 * Create key converter for given key class type using given static factory method
+                 * or given string constructor.
+                 *
+                 * @param  type     key class type.
+                 * @param  method   static factory method (may be null).
+                 * @param  factory  string constructor (may be null).
+                 */
+                private Handle(Class<?> type, Method method, Constructor<?> factory) {
+                    this.type = type;
+                    this.method = method;
+                    this.factory = factory;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Object convert(String name) {
+                    if (this.method != null) {
+                        return Methods.invoke1(null, this.method, name);
+                    } else if (this.factory != null) {
+                        return Objects.create(this.factory, Failure.Mode.DEFAULT, name);
+                    } else if (Number.class.isAssignableFrom(this.type)) {
+                        throw Failure.create(this.type);
+                    }
+                    return Objects.create(this.type, Base.STRING_TYPES, name);
+                }
+            }
+        }
+
+        /**
+         * Compiled batch of property paths. The property paths are merged into a prefix trie of
+         * path segments, so that reading or writing the batch walks each shared path segment only
+         * once per target object. Property values are aligned with the property paths of the batch.
+         * Writes are applied in prefix trie order, i.e. depth first with paths in order of the first
+         * occurrence of their prefixes, where a write to a path is applied before writes to paths
+         * extending it. Compiled batches are interned in a bounded cache.
+         */
+        public static final class PropertyBatch {
+
+            /**
+             * Maximum number of interned property batches.
+             */
+            private static final int CACHE_SIZE = 256;
+
+            /**
+             * Cache of interned property batches.
+             */
+            private static final ConcurrentMap<List<String>, PropertyBatch> CACHE =
+                new ConcurrentHashMap<List<String>, PropertyBatch>();
+
+            /**
+             * Property path strings.
+             */
+            private final String[] paths;
+
+            /**
+             * Root node of prefix trie.
+             */
+            private final Node root;
+
+            /**
+             * Create property batch for given property path strings.
+             *
+             * @param  paths  property path strings.
+             */
+            private PropertyBatch(String[] paths) {
+                this.paths = paths;
+                this.root = new Node(null, null);
+                for (int index = 0; index < paths.length; index++) {
+                    Node node = this.root;
+                    for (Segment segment : PropertyPath.compile(paths[index]).segments) {
+                        node = node.child(segment, paths[index]);
+                    }
+                    node.leaf(index);
+                }
+            }
+
+            /**
+             * Resolve interned compiled property batch for given property path strings.
+             *
+             * @param   paths  property path strings.
+             *
+             * @return  compiled property batch.
+             */
+            public static PropertyBatch compile(String... paths) {
+                if (paths == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "paths must not be null");
+                }
+                List<String> key = Arrays.asList(paths.clone());
+                PropertyBatch cached = CACHE.get(key);
+                if (cached != null) {
+                    return cached;
+                } else if (CACHE.size() >= CACHE_SIZE) {
+                    CACHE.clear();
+                }
+                PropertyBatch compiled = new PropertyBatch(key.toArray(new String[paths.length]));
+                cached = CACHE.putIfAbsent(key, compiled);
+                return (cached != null) ? cached : compiled;
+            }
+
+            /**
+             * Return list of property path strings of this property batch.
+             *
+             * @return  list of property path strings.
+             */
+            public List<String> paths() {
+                return Collections.unmodifiableList(Arrays.asList(this.paths));
+            }
+
+            /**
+             * Read target property values identified by the property paths of this property batch
+             * from given target object value (see {@link Beans#readBatch(Object, String...)}).
+             *
+             * @param   target  target object value.
+             *
+             * @return  property values aligned with the property paths.
+             */
+            public Object[] read(Object target) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                }
+                Object[] result = new Object[this.paths.length];
+                this.read(target, this.root, target, null, result);
+                return result;
+            }
+
+            /**
+             * Read target property values of the child nodes of given prefix trie node from given
+             * actual object value recursively, storing them in given result array.
+             *
+             * @param  target   target object value.
+             * @param  node     prefix trie node.
+             * @param  actual   actual object value of prefix trie node.
+             * @param  generic  declared generic type of actual object value (may be null).
+             * @param  result   result array of property values.
+             */
+            private void read(Object target, Node node, Object actual, java.lang.reflect.Type generic,
+                    Object[] result) {
+                for (Node child : node.children) {
+                    Object next;
+                    java.lang.reflect.Type xgeneric;
+                    try {
+                        next = Helper.read(actual, child.segment, generic);
+                        xgeneric = Helper.generic(actual, child.segment, generic, next);
+                    } catch (RuntimeException except) {
+                        throw Failure.create(Failure.Helper.message(target, child.path), except);
+                    }
+                    for (int index : child.leaves) {
+                        result[index] = next;
+                    }
+                    if (!child.children.isEmpty()) {
+                        this.read(target, child, next, xgeneric, result);
+                    }
+                }
+            }
+
+            /**
+             * Write given target property values to properties identified by the property paths of
+             * this property batch on given target object value and return previous property values
+             * (see {@link Beans#writeBatch(Object, String[], Object[])}).
+             *
+             * @param   target  target object value.
+             * @param   values  target property values aligned with the property paths.
+             *
+             * @return  previous property values aligned with the property paths.
+             */
+            public Object[] write(Object target, Object[] values) {
+                if (target == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                } else if ((values == null) || (values.length != this.paths.length)) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "values must match paths [paths="
+                        + this.paths.length + ", values=" + ((values != null) ? values.length : null) + "]");
+                }
+                Object[] result = new Object[this.paths.length];
+                this.write(target, this.root, target, null, values, result);
+                return result;
+            }
+
+            /**
+             * Write given target property values to the child nodes of given prefix trie node on
+             * given actual object value recursively, storing previous property values in given
+             * result array.
+             *
+             * @param  target   target object value.
+             * @param  node     prefix trie node.
+             * @param  actual   actual object value of prefix trie node.
+             * @param  generic  declared generic type of actual object value (may be null).
+             * @param  values   target property values.
+             * @param  result   result array of previous property values.
+             */
+            private void write(Object target, Node node, Object actual, java.lang.reflect.Type generic,
+                    Object[] values, Object[] result) {
+                for (Node child : node.children) {
+                    Object next = null;
+                    java.lang.reflect.Type xgeneric = null;
+                    try {
+                        for (int index : child.leaves) {
+                            result[index] = Helper.write(actual, child.segment, values[index], generic);
+                        }
+                        if (!child.children.isEmpty()) {
+                            next = Helper.read(actual, child.segment, generic);
+                            xgeneric = Helper.generic(actual, child.segment, generic, next);
+                        }
+                    } catch (RuntimeException except) {
+                        throw Failure.create(Failure.Helper.message(target, child.path), except);
+                    }
+                    if (!child.children.isEmpty()) {
+                        this.write(target, child, next, xgeneric, values, result);
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public int hashCode() {
+                return Arrays.hashCode(this.paths);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                } else if ((obj == null) || (this.getClass() != obj.getClass())) {
+                    return false;
+                }
+                return Arrays.equals(this.paths, ((PropertyBatch) obj).paths);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public String toString() {
+                return Arrays.toString(this.paths);
+            }
+
+            /**
+             * Prefix trie node of a property batch providing the path segment, the indexes of the
+             * property paths ending in the node, and the child nodes in order of first occurrence.
+             */
+            private static final class Node {
+
+                /**
+                 * Path segment ({@code null} for root node).
+                 */
+                private final Segment segment;
+
+                /**
+                 * First property path string passing the node, used for failures.
+                 */
+                private final String path;
+
+                /**
+                 * Child nodes in order of first occurrence.
+                 */
+                private final List<Node> children = new ArrayList<Node>();
+
+                /**
+                 * Indexes of property paths ending in this node.
+                 */
+                private int[] leaves = new int[0];
+
+                /**
+                 * Create prefix trie node with given path segment and property path string.
+                 *
+                 * @param  segment  path segment.
+                 * @param  path     first property path string passing the node.
+                 */
+                private Node(Segment segment, String path) {
+                    this.segment = segment;
+                    this.path = path;
                 }
 
-                case 1:
-                    Class<?> type = method.getParameterTypes()[0];
-                    if (Beans.check(type, name, "setIs", true)) {
-                        return Character.toLowerCase(name.charAt(5)) + name.substring(6);
-                    } else if (Beans.check(type, name, "setHas", true)) {
-                        return Character.toLowerCase(name.charAt(6)) + name.substring(7);
-                    } else if (Beans.check(type, name, "set", false)) {
-                        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+                /**
+                 * Resolve child node for given path segment, creating it for given property path
+                 * string if not available yet.
+                 *
+                 * @param   segment  path segment.
+                 * @param   path     property path string.
+                 *
+                 * @return  child node for given path segment.
+                 */
+                private Node child(Segment segment, String path) {
+                    for (Node child : this.children) {
+                        if (child.segment.getName().equals(segment.getName())) {
+                            return child;
+                        }
                     }
-                    return name;
+                    Node child = new Node(segment, path);
+                    this.children.add(child);
+                    return child;
+                }
 
-                default:
-                    throw Failure.create(AccessHelper.Failure.Type.ARGUMENT,
-                        "method is no getter/setter [" + method.getName() + "]");
+                /**
+                 * Add given property path index to the property paths ending in this node.
+                 *
+                 * @param  index  property path index.
+                 */
+                private void leaf(int index) {
+                    this.leaves = Arrays.copyOf(this.leaves, this.leaves.length + 1);
+                    this.leaves[this.leaves.length - 1] = index;
+                }
             }
         }
 
         /**
-         * Check whether given bean property prefix is present and valid for given distinct property
-         * name and property class type. If the bean property prefix should only be valid for
-         * boolean class types, the bool flag enables a check on the given property class type.
-         *
-         * @param   type    property class type.
-         * @param   name    distinct property name.
-         * @param   prefix  bean property prefix.
-         * @param   bool    whether only allowed for boolean types.
-         *
-         * @return  given bean property prefix is present and valid.
+         * Property path segment providing the pre-parsed bean property name, the optional class
+         * name qualifier, and whether the bean property name is an index value.
          */
-        private static boolean check(Class<?> type, String name, String prefix, boolean bool) {
-            return (!bool || (type == boolean.class) || (type == Boolean.class)) && name.startsWith(prefix)
-                && (name.length() > prefix.length()) && Character.isUpperCase(name.charAt(prefix.length()));
+        private static final class Segment {
+
+            /**
+             * Bean property name.
+             */
+            private final String name;
+
+            /**
+             * Class name qualifier ({@code null} if not available).
+             */
+            private final String qualifier;
+
+            /**
+             * Bean property name without class name qualifier.
+             */
+            private final String simple;
+
+            /**
+             * Flag whether bean property name is an index value.
+             */
+            private final boolean index;
+
+            /**
+             * Unqualified bean context without default class type ({@code null} if qualified).
+             */
+            private final Context<?> context;
+
+            /**
+             * Create property path segment for given bean property name.
+             *
+             * @param  name  bean property name.
+             */
+            private Segment(String name) {
+                String[] names = Base.TYPE.split(name);
+                this.name = name;
+                this.qualifier = (names.length == 2) ? names[0] : null;
+                this.simple = (names.length == 2) ? names[1] : name;
+                this.index = Base.INDEX.matcher(name).matches();
+                this.context = (this.qualifier == null) ? new Context<Object>(null, Mode.AUTO, name) : null;
+            }
+
+            /**
+             * Return bean property name.
+             *
+             * @return  bean property name.
+             */
+            public String getName() {
+                return this.name;
+            }
+
+            /**
+             * Return whether bean property name is an index value.
+             *
+             * @return  whether bean property name is an index value.
+             */
+            public boolean isIndex() {
+                return this.index;
+            }
+
+            /**
+             * Create bean context for this path segment using given default bean property class
+             * type (see {@link Context#create(String, Class)}).
+             *
+             * @param   <Type>  property value type.
+             * @param   type    default bean property class type.
+             *
+             * @return  bean context.
+             */
+            @SuppressWarnings("unchecked")
+            public <Type> Context<Type> context(Class<Type> type) {
+                if (this.qualifier != null) {
+                    Class<Type> xtype = (Class<Type>) Classes.find(this.qualifier);
+                    return new Context<Type>(xtype, Mode.TYPED, this.simple);
+                } else if (type == null) {
+                    return (Context<Type>) this.context;
+                }
+                return new Context<Type>(type, Mode.AUTO, this.name);
+            }
         }
 
         /**
@@ -3131,25 +6336,21 @@ public abstract class AccessHelper {
             }
 
             /**
-             * Resolve key class type from target map object. First the generic parameter of the map
-             * is checked whether it provides a sufficient none-object class type. Otherwise, the
-             * target is checked whether it is not empty and the class type of the first available
-             * key is used. If no key is available string is used as default.
+             * Resolve key class type from target map object. First the declared generic type of the
+             * map is checked whether it provides a concrete key class type. Otherwise, the target is
+             * checked whether it is not empty and the class type of the first available key is used.
+             * If no key is available string is used as default.
              *
-             * @param   target  target map object.
+             * @param   target   target map object.
+             * @param   generic  declared generic type of target map object (may be null).
              *
              * @return  map key class type.
              */
-            private static Class<?> type(Map<?, ?> target) {
-                /* Unnecessary until reification is available. */
-                /*
-                if (target != null) {
-                    Class<?> type = Classes.generic(target.getClass(), 0, 0);
-                    if (type != Object.class) {
-                        return type;
-                    }
+            private static Class<?> type(Map<?, ?> target, java.lang.reflect.Type generic) {
+                Class<?> type = Classes.generic((generic != null) ? generic : target.getClass(), Map.class, 0);
+                if (Helper.concrete(type)) {
+                    return type;
                 }
-                 */
                 Set<?> set = target.keySet();
                 if (!set.isEmpty()) {
                     return set.iterator().next().getClass();
@@ -3157,6 +6358,49 @@ public abstract class AccessHelper {
                 return String.class;
             }
 
+            /**
+             * Check whether given class type is a concrete class type that can be used to create
+             * keys and elements, i.e. neither {@code null}, {@link Object}, an interface, nor an
+             * abstract class type.
+             *
+             * @param   type  class type (may be null).
+             *
+             * @return  whether given class type is a concrete class type.
+             */
+            private static boolean concrete(Class<?> type) {
+                return (type != null) && (type != Object.class) && !type.isInterface()
+                    && !Modifier.isAbstract(type.getModifiers());
+            }
+
+            /**
+             * Resolve declared generic type of property value identified by given target property
+             * path segment in given target object value with given declared generic type. The
+             * generic type is only resolved if the property value is a map or collection, since
+             * it is only used to determine key and element class types.
+             *
+             * @param   target   target object value.
+             * @param   segment  target property path segment.
+             * @param   generic  declared generic type of target object value (may be null).
+             * @param   value    property value.
+             *
+             * @return  declared generic type of property value (may be null).
+             */
+            protected static java.lang.reflect.Type generic(Object target, Segment segment,
+                    java.lang.reflect.Type generic, Object value) {
+                if (!(value instanceof Map<?, ?>) && !(value instanceof Collection<?>)) {
+                    return null;
+                } else if (target.getClass().isArray()) {
+                    return (generic instanceof GenericArrayType)
+                        ? ((GenericArrayType) generic).getGenericComponentType() : null;
+                } else if (target instanceof Map<?, ?>) {
+                    return Classes.argument((generic != null) ? generic : target.getClass(), Map.class, 1);
+                } else if (target instanceof Iterable<?>) {
+                    return Classes.argument((generic != null) ? generic : target.getClass(), Iterable.class, 0);
+                }
+                Context<?> context = segment.context(null);
+                return Beans.generic(target.getClass(), context.getType(), context.getName(), context.getMode());
+            }
+
             /**
              * Read target property value identified by given target property name from given target
              * object value. The target object value may be an array (accessible by {@link Array}),
@@ -3164,62 +6408,188 @@ public abstract class AccessHelper {
              * containing properties. Elements are addressed either by index (arrays, list, sets) or
              * by name (objects, maps - as long as keys of maps can created using via string).
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object value.
-             * @param   name    target property name.
+             * @param   <Type>   property value type.
+             * @param   target   target object value.
+             * @param   segment  target property path segment.
+             * @param   generic  declared generic type of target object value (may be null).
              *
              * @return  property value.
              */
             @SuppressWarnings("unchecked")
-            protected static <Type> Type read(Object target, String name) {
+            protected static <Type> Type read(Object target, Segment segment, java.lang.reflect.Type generic) {
                 if (target == null) {
                     throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                } else if (target instanceof Object[]) {
+                    return Helper.read((Object[]) target, segment);
                 } else if (target.getClass().isArray()) {
-                    return Helper.read((Object[]) target, name);
+                    return (Type) Helper.element(target, segment);
                 } else if (target instanceof List<?>) {
-                    return Helper.read((List<Type>) target, name);
+                    return Helper.read((List<Type>) target, segment);
                 } else if (target instanceof Map<?, ?>) {
-                    return Helper.read((Map<?, Type>) target, name);
+                    return Helper.read((Map<?, Type>) target, segment, generic);
                 } else if (target instanceof Collection<?>) {
-                    return Helper.read((Collection<Type>) target, name);
-                } else if ((target instanceof Iterable<?>) && Base.INDEX.matcher(name).matches()) {
-                    int index = Integer.valueOf(Long.decode(name).intValue());
+                    return Helper.read((Collection<Type>) target, segment, generic);
+                } else if ((target instanceof Iterable<?>) && segment.isIndex()) {
+                    int index = Integer.valueOf(Long.decode(segment.getName()).intValue());
                     return Helper.access((Iterable<Type>) target, index, false);
                 }
-                return Beans.get(target, name);
+                return Beans.get(target, segment.context(null));
             }
 
             /**
              * Read target property value identified by given target property name from given target
              * object array.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object array.
-             * @param   name    target property name.
+             * @param   <Type>   property value type.
+             * @param   target   target object array.
+             * @param   segment  target property path segment.
              *
              * @return  property value.
              */
             @SuppressWarnings("unchecked")
-            private static <Type> Type read(Object[] target, String name) {
-                int index = Context.create(name).getIndex();
-                if (index >= Array.getLength(target)) {
-                    throw Failure.create(index, Array.getLength(target));
+            private static <Type> Type read(Object[] target, Segment segment) {
+                return (Type) target[Helper.index(target, segment)];
+            }
+
+            /**
+             * Read target property value identified by given target property name from given
+             * primitive target array. The element value is boxed only once when returned.
+             *
+             * @param   target   primitive target array.
+             * @param   segment  target property path segment.
+             *
+             * @return  boxed property value.
+             */
+            private static Object element(Object target, Segment segment) {
+                int index = Helper.index(target, segment);
+                if (target instanceof int[]) {
+                    return ((int[]) target)[index];
+                } else if (target instanceof long[]) {
+                    return ((long[]) target)[index];
+                } else if (target instanceof double[]) {
+                    return ((double[]) target)[index];
+                } else if (target instanceof byte[]) {
+                    return ((byte[]) target)[index];
+                } else if (target instanceof float[]) {
+                    return ((float[]) target)[index];
+                } else if (target instanceof short[]) {
+                    return ((short[]) target)[index];
+                } else if (target instanceof char[]) {
+                    return ((char[]) target)[index];
+                } else if (target instanceof boolean[]) {
+                    return ((boolean[]) target)[index];
+                }
+                throw Failure.create(target.getClass());
+            }
+
+            /**
+             * Resolve array index identified by given target property path segment, checking it
+             * against the length of given target array.
+             *
+             * @param   target   target array.
+             * @param   segment  target property path segment.
+             *
+             * @return  array index.
+             */
+            private static int index(Object target, Segment segment) {
+                int index = Long.decode(segment.getName()).intValue();
+                int length = Array.getLength(target);
+                if (index >= length) {
+                    throw Failure.create(index, length);
+                }
+                return index;
+            }
+
+            /**
+             * Read primitive int property value identified by given target property path segment
+             * from given target object value. Elements of int arrays are read without boxing.
+             *
+             * @param   target   target object value.
+             * @param   segment  target property path segment.
+             * @param   generic  declared generic type of target object value (may be null).
+             *
+             * @return  primitive int property value.
+             */
+            protected static int readInt(Object target, Segment segment, java.lang.reflect.Type generic) {
+                if (target instanceof int[]) {
+                    return ((int[]) target)[Helper.index(target, segment)];
+                }
+                return Helper.widen(Helper.read(target, segment, generic), int.class).intValue();
+            }
+
+            /**
+             * Read primitive long property value identified by given target property path segment
+             * from given target object value. Elements of long arrays are read without boxing.
+             *
+             * @param   target   target object value.
+             * @param   segment  target property path segment.
+             * @param   generic  declared generic type of target object value (may be null).
+             *
+             * @return  primitive long property value.
+             */
+            protected static long readLong(Object target, Segment segment, java.lang.reflect.Type generic) {
+                if (target instanceof long[]) {
+                    return ((long[]) target)[Helper.index(target, segment)];
+                }
+                return Helper.widen(Helper.read(target, segment, generic), long.class).longValue();
+            }
+
+            /**
+             * Read primitive double property value identified by given target property path
+             * segment from given target object value. Elements of double arrays are read without
+             * boxing.
+             *
+             * @param   target   target object value.
+             * @param   segment  target property path segment.
+             * @param   generic  declared generic type of target object value (may be null).
+             *
+             * @return  primitive double property value.
+             */
+            protected static double readDouble(Object target, Segment segment, java.lang.reflect.Type generic) {
+                if (target instanceof double[]) {
+                    return ((double[]) target)[Helper.index(target, segment)];
+                }
+                return Helper.widen(Helper.read(target, segment, generic), double.class).doubleValue();
+            }
+
+            /**
+             * Convert given property value to a number that can be converted to given primitive
+             * class type by widening primitive conversion, e.g. an integer value can be read as long
+             * value or double value but not vice versa. Character values are converted to integer
+             * values.
+             *
+             * @param   value  property value (may be null).
+             * @param   type   primitive int, long, or double class type.
+             *
+             * @return  number convertible to given primitive class type.
+             */
+            private static Number widen(Object value, Class<?> type) {
+                Class<?> vtype = (value != null) ? value.getClass() : null;
+                if ((vtype == Integer.class) || (vtype == Short.class) || (vtype == Byte.class)) {
+                    return (Number) value;
+                } else if (vtype == Character.class) {
+                    return Integer.valueOf(((Character) value).charValue());
+                } else if ((vtype == Long.class) && (type != int.class)) {
+                    return (Number) value;
+                } else if (((vtype == Double.class) || (vtype == Float.class)) && (type == double.class)) {
+                    return (Number) value;
                 }
-                return (Type) Array.get(target, index);
+                throw Failure.create(Failure.Type.ARGUMENT, "invalid primitive value [type=" + type + ", value="
+                    + value + ((vtype != null) ? (", class=" + vtype.getName()) : "") + "]");
             }
 
             /**
              * Read target property value identified by given target property name from given target
              * object list.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object list.
-             * @param   name    target property name.
+             * @param   <Type>   property value type.
+             * @param   target   target object list.
+             * @param   segment  target property path segment.
              *
              * @return  property value.
              */
-            private static <Type> Type read(List<Type> target, String name) {
-                int index = Context.create(name).getIndex();
+            private static <Type> Type read(List<Type> target, Segment segment) {
+                int index = segment.context(null).getIndex();
                 if (index < target.size()) {
                     return target.get(index);
                 }
@@ -3230,67 +6600,40 @@ public abstract class AccessHelper {
              * Read target property value identified by given target property name from given target
              * object map.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object map.
-             * @param   name    target property name.
+             * @param   <Type>   property value type.
+             * @param   target   target object map.
+             * @param   segment  target property path segment.
+             * @param   generic  declared generic type of target object map (may be null).
              *
              * @return  property value.
              */
-            private static <Type> Type read(Map<?, Type> target, String name) {
-                Context<?> context = Context.create(name, Helper.type(target));
-                if (context.getType() == String.class) {
-                    return target.get(context.getName());
-                } else if (Number.class.isAssignableFrom(context.getType())) {
-                    if (context.getType() == Long.class) {
-                        return target.get(context.getDecode());
-                    } else if (context.getType() == Integer.class) {
-                        return target.get(Integer.valueOf((int) context.getDecode()));
-                    } else if (context.getType() == Short.class) {
-                        return target.get(Short.valueOf((short) context.getDecode()));
-                    } else if (context.getType() == Byte.class) {
-                        return target.get(Byte.valueOf((byte) context.getDecode()));
-                    } else if (context.getType() == Double.class) {
-                        return target.get(Double.valueOf(context.getName()));
-                    } else if (context.getType() == Float.class) {
-                        return target.get(Float.valueOf(context.getName()));
-                    } else if (context.getType() == BigInteger.class) {
-                        return target.get(new BigInteger(context.getName()));
-                    } else if (context.getType() == BigDecimal.class) {
-                        return target.get(new BigDecimal(context.getName()));
-                    }
-                    throw Failure.create(context.getType());
-                } else if (context.getType() == Boolean.class) {
-                    return target.get(Boolean.valueOf(context.getName()));
-                } else if (context.getType() == Character.class) {
-                    return target.get(context.getName().charAt(0));
-                } else if (context.getType() == Class.class) {
-                    return target.get(Classes.find(context.getName()));
-                }
-                return target.get(Objects.create(context.getType(), //
-                            Base.STRING_TYPES, context.getName()));
+            private static <Type> Type read(Map<?, Type> target, Segment segment, java.lang.reflect.Type generic) {
+                Context<?> context = segment.context(Helper.type(target, generic));
+                return target.get(Converters.convert(context.getType(), context.getName()));
             }
 
             /**
              * Read target property value identified by given target property name from given target
              * object collection.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object collection.
-             * @param   name    target property name.
+             * @param   <Type>   property value type.
+             * @param   target   target object collection.
+             * @param   segment  target property path segment.
+             * @param   generic  declared generic type of target object collection (may be null).
              *
              * @return  property value.
              */
-            private static <Type> Type read(Collection<Type> target, String name) {
-                if ("*".equals(name)) {
+            private static <Type> Type read(Collection<Type> target, Segment segment, java.lang.reflect.Type generic) {
+                if ("*".equals(segment.getName())) {
                     return null;
-                } else if (Base.INDEX.matcher(name).matches()) {
-                    int index = Integer.valueOf(Long.decode(name).intValue());
+                } else if (segment.isIndex()) {
+                    int index = Integer.valueOf(Long.decode(segment.getName()).intValue());
                     if (index >= target.size()) {
                         throw Failure.create(index, target.size());
                     }
                     return Helper.access(target, index, false);
                 }
-                Type before = Helper.before(target, name, null);
+                Type before = Helper.before(target, segment, null, generic);
                 if (target.contains(before)) {
                     return before;
                 }
@@ -3305,71 +6648,165 @@ public abstract class AccessHelper {
              * addressed either by index (arrays, list, sets) or by name (objects, maps - as long as
              * keys of maps can created using via string).
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object value.
-             * @param   name    target property name.
-             * @param   value   target property value.
+             * @param   <Type>   property value type.
+             * @param   target   target object value.
+             * @param   segment  target property path segment.
+             * @param   value    target property value.
+             * @param   generic  declared generic type of target object value (may be null).
              *
              * @return  previous property value.
              */
             @SuppressWarnings("unchecked")
-            protected static <Type> Type write(Object target, String name, Type value) {
+            protected static <Type> Type write(Object target, Segment segment, Type value,
+                    java.lang.reflect.Type generic) {
                 if (target == null) {
                     throw Failure.create(Failure.Type.ARGUMENT, "target must not be null");
+                } else if (target instanceof Object[]) {
+                    return Helper.write((Object[]) target, segment, value);
                 } else if (target.getClass().isArray()) {
-                    return Helper.write((Object[]) target, name, value);
+                    return (Type) Helper.element(target, segment, value);
                 } else if (target instanceof List<?>) {
-                    return Helper.write((List<Type>) target, name, value);
+                    return Helper.write((List<Type>) target, segment, value);
                 } else if (target instanceof Map<?, ?>) {
-                    return Helper.write((Map<?, Type>) target, name, value);
+                    return Helper.write((Map<?, Type>) target, segment, value, generic);
                 } else if (target instanceof Collection<?>) {
-                    return Helper.write((Collection<Type>) target, name, value);
-                } else if ((target instanceof Iterable<?>) && Base.INDEX.matcher(name).matches()) {
-                    int index = Integer.valueOf(Long.decode(name).intValue());
+                    return Helper.write((Collection<Type>) target, segment, value, generic);
+                } else if ((target instanceof Iterable<?>) && segment.isIndex()) {
+                    int index = Integer.valueOf(Long.decode(segment.getName()).intValue());
                     return Helper.access((Iterable<Type>) target, index, true);
                 }
-                return Beans.set(target, name, value);
+                return Beans.set(target, segment.context((value != null) ? value.getClass() : null), value);
             }
 
             /**
              * Write given target property value to property identified by given target property
              * name on given target object array and return previous property value.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object array.
-             * @param   name    target property name.
-             * @param   value   target property value.
+             * @param   <Type>   property value type.
+             * @param   target   target object array.
+             * @param   segment  target property path segment.
+             * @param   value    target property value.
              *
              * @return  previous property value.
              */
             @SuppressWarnings("unchecked")
-            private static <Type> Type write(Object[] target, String name, Type value) {
-                int index = Context.create(name).getIndex();
-                if (index >= Array.getLength(target)) {
-                    throw Failure.create(index, Array.getLength(target));
-                }
-                Type before = (Type) Array.get(target, index);
+            private static <Type> Type write(Object[] target, Segment segment, Type value) {
+                int index = Helper.index(target, segment);
+                Type before = (Type) target[index];
                 Array.set(target, index, value);
                 return before;
             }
 
+            /**
+             * Write given boxed target property value to property identified by given target
+             * property name on given primitive target array and return previous property value.
+             * The property value must be of the boxed element type of the array.
+             *
+             * @param   target   primitive target array.
+             * @param   segment  target property path segment.
+             * @param   value    boxed target property value.
+             *
+             * @return  boxed previous property value.
+             */
+            private static Object element(Object target, Segment segment, Object value) {
+                int index = Helper.index(target, segment);
+                if (value == null) {
+                    throw Failure.create(Failure.Type.ARGUMENT, "value must not be null [" + index + "]");
+                }
+                Object before = Helper.element(target, segment);
+                if (target instanceof int[]) {
+                    ((int[]) target)[index] = (Integer) value;
+                } else if (target instanceof long[]) {
+                    ((long[]) target)[index] = (Long) value;
+                } else if (target instanceof double[]) {
+                    ((double[]) target)[index] = (Double) value;
+                } else if (target instanceof byte[]) {
+                    ((byte[]) target)[index] = (Byte) value;
+                } else if (target instanceof float[]) {
+                    ((float[]) target)[index] = (Float) value;
+                } else if (target instanceof short[]) {
+                    ((short[]) target)[index] = (Short) value;
+                } else if (target instanceof char[]) {
+                    ((char[]) target)[index] = (Character) value;
+                } else if (target instanceof boolean[]) {
+                    ((boolean[]) target)[index] = (Boolean) value;
+                }
+                return before;
+            }
+
+            /**
+             * Write given primitive int property value to property identified by given target
+             * property path segment on given target object value. Elements of int arrays are
+             * written without boxing.
+             *
+             * @param  target   target object value.
+             * @param  segment  target property path segment.
+             * @param  value    primitive int property value.
+             * @param  generic  declared generic type of target object value (may be null).
+             */
+            protected static void writeInt(Object target, Segment segment, int value, java.lang.reflect.Type generic) {
+                if (target instanceof int[]) {
+                    ((int[]) target)[Helper.index(target, segment)] = value;
+                } else {
+                    Helper.write(target, segment, Integer.valueOf(value), generic);
+                }
+            }
+
+            /**
+             * Write given primitive long property value to property identified by given target
+             * property path segment on given target object value. Elements of long arrays are
+             * written without boxing.
+             *
+             * @param  target   target object value.
+             * @param  segment  target property path segment.
+             * @param  value    primitive long property value.
+             * @param  generic  declared generic type of target object value (may be null).
+             */
+            protected static void writeLong(Object target, Segment segment, long value,
+                    java.lang.reflect.Type generic) {
+                if (target instanceof long[]) {
+                    ((long[]) target)[Helper.index(target, segment)] = value;
+                } else {
+                    Helper.write(target, segment, Long.valueOf(value), generic);
+                }
+            }
+
+            /**
+             * Write given primitive double property value to property identified by given target
+             * property path segment on given target object value. Elements of double arrays are
+             * written without boxing.
+             *
+             * @param  target   target object value.
+             * @param  segment  target property path segment.
+             * @param  value    primitive double property value.
+             * @param  generic  declared generic type of target object value (may be null).
+             */
+            protected static void writeDouble(Object target, Segment segment, double value,
+                    java.lang.reflect.Type generic) {
+                if (target instanceof double[]) {
+                    ((double[]) target)[Helper.index(target, segment)] = value;
+                } else {
+                    Helper.write(target, segment, Double.valueOf(value), generic);
+                }
+            }
+
             /**
              * Write given target property value to property identified by given target property
              * name on given target object list and return previous property value.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object list.
-             * @param   name    target property name.
-             * @param   value   target property value.
+             * @param   <Type>   property value type.
+             * @param   target   target object list.
+             * @param   segment  target property path segment.
+             * @param   value    target property value.
              *
              * @return  previous property value.
              */
-            private static <Type> Type write(List<Type> target, String name, Type value) {
-                if ("*".equals(name)) {
+            private static <Type> Type write(List<Type> target, Segment segment, Type value) {
+                if ("*".equals(segment.getName())) {
                     target.add(value);
                     return null;
                 }
-                int index = Context.create(name).getIndex();
+                int index = segment.context(null).getIndex();
                 if (index < target.size()) {
                     Type before = target.get(index);
                     target.set(index, value);
@@ -3382,71 +6819,47 @@ public abstract class AccessHelper {
              * Write given target property value to property identified by given target property
              * name on given target object map and return previous property value.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object map.
-             * @param   name    target property name.
-             * @param   value   target property value.
+             * @param   <Type>   property value type.
+             * @param   target   target object map.
+             * @param   segment  target property path segment.
+             * @param   value    target property value.
+             * @param   generic  declared generic type of target object map (may be null).
              *
              * @return  previous property value.
              */
             @SuppressWarnings("unchecked")
-            private static <Type> Type write(Map<?, Type> target, String name, Type value) {
-                Context<?> context = Context.create(name, Helper.type(target));
-                if (context.getType() == String.class) {
-                    return ((Map<String, Type>) target).put(context.getName(), value);
-                } else if (Number.class.isAssignableFrom(context.getType())) {
-                    if (context.getType() == Long.class) {
-                        return ((Map<Long, Type>) target).put(context.getDecode(), value);
-                    } else if (context.getType() == Integer.class) {
-                        return ((Map<Integer, Type>) target).put(Integer.valueOf((int) context.getDecode()), value);
-                    } else if (context.getType() == Short.class) {
-                        return ((Map<Short, Type>) target).put(Short.valueOf((short) context.getDecode()), value);
-                    } else if (context.getType() == Byte.class) {
-                        return ((Map<Byte, Type>) target).put(Byte.valueOf((byte) context.getDecode()), value);
-                    } else if (context.getType() == Double.class) {
-                        return ((Map<Double, Type>) target).put(Double.valueOf(context.getName()), value);
-                    } else if (context.getType() == Float.class) {
-                        return ((Map<Float, Type>) target).put(Float.valueOf(context.getName()), value);
-                    } else if (context.getType() == BigInteger.class) {
-                        return ((Map<BigInteger, Type>) target).put(new BigInteger(context.getName()), value);
-                    } else if (context.getType() == BigDecimal.class) {
-                        return ((Map<BigDecimal, Type>) target).put(new BigDecimal(context.getName()), value);
-                    }
-                    throw Failure.create(context.getType());
-                } else if (context.getType() == Boolean.class) {
-                    return ((Map<Boolean, Type>) target).put(Boolean.valueOf(context.getName()), value);
-                } else if (context.getType() == Character.class) {
-                    return ((Map<Character, Type>) target).put(context.getName().charAt(0), value);
-                } else if (context.getType() == Class.class) {
-                    return ((Map<Class<?>, Type>) target).put(Classes.find(context.getName()), value);
-                }
-                return ((Map<Object, Type>) target).put(Objects.create(context.getType(), //
-                            Base.STRING_TYPES, context.getName()), value);
+            private static <Type> Type write(Map<?, Type> target, Segment segment, Type value,
+                    java.lang.reflect.Type generic) {
+                Context<?> context = segment.context(Helper.type(target, generic));
+                Object key = Converters.convert(context.getType(), context.getName());
+                return ((Map<Object, Type>) target).put(key, value);
             }
 
             /**
              * Write given target property value to property identified by given target property
              * name on given target object collection and return previous property value.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object collection.
-             * @param   name    target property name.
-             * @param   value   target property value.
+             * @param   <Type>   property value type.
+             * @param   target   target object collection.
+             * @param   segment  target property path segment.
+             * @param   value    target property value.
+             * @param   generic  declared generic type of target object collection (may be null).
              *
              * @return  previous property value.
              */
-            private static <Type> Type write(Collection<Type> target, String name, Type value) {
-                if ("*".equals(name)) {
+            private static <Type> Type write(Collection<Type> target, Segment segment, Type value,
+                    java.lang.reflect.Type generic) {
+                if ("*".equals(segment.getName())) {
                     target.add(value);
                     return null;
-                } else if (Base.INDEX.matcher(name).matches()) {
-                    int index = Integer.valueOf(Long.decode(name).intValue());
+                } else if (segment.isIndex()) {
+                    int index = Integer.valueOf(Long.decode(segment.getName()).intValue());
                     if (index >= target.size()) {
                         throw Failure.create(index, target.size());
                     }
                     return Helper.access(target, index, true);
                 }
-                Type before = Helper.before(target, name, value);
+                Type before = Helper.before(target, segment, value, generic);
                 if (target.remove(before)) {
                     if (value != null) {
                         target.add(value);
@@ -3459,33 +6872,39 @@ public abstract class AccessHelper {
 
             /**
              * Resolve previous target property value from target object collection using given
-             * target property name and target property value to determine property type.
+             * target property name, target property value, and declared generic type of the target
+             * object collection to determine property type.
              *
-             * @param   <Type>  property value type.
-             * @param   target  target object collection.
-             * @param   name    target property name.
-             * @param   value   target property value.
+             * @param   <Type>   property value type.
+             * @param   target   target object collection.
+             * @param   segment  target property path segment.
+             * @param   value    target property value.
+             * @param   generic  declared generic type of target object collection (may be null).
              *
              * @return  previous target property value.
              */
             @SuppressWarnings("unchecked")
-            private static <Type> Type before(Collection<Type> target, String name, Type value) {
-                Class<Type> type = Classes.generic(target.getClass(), 0, 0);
+            private static <Type> Type before(Collection<Type> target, Segment segment, Type value,
+                    java.lang.reflect.Type generic) {
+                Class<Type> type = Classes.generic((generic != null) ? generic : target.getClass(), Iterable.class, 0);
                 if (value != null) {
                     type = (Class<Type>) value.getClass();
-                } else if (!target.isEmpty()) {
+                } else if (!Helper.concrete(type) && !target.isEmpty()) {
                     type = (Class<Type>) target.iterator().next().getClass();
                 }
-                Context<Type> context = Context.create(name, type);
+                Context<Type> context = segment.context(type);
                 if (context.getType() == Object.class) {
                     throw Failure.create(Failure.Type.ARGUMENT, "could not determine type");
                 }
-                return Objects.create(context.getType(), Base.STRING_TYPES, context.getName());
+                return Converters.element(context.getType(), context.getName());
             }
 
             /**
              * Resolve element value at given target index in given iterable target object. If
-             * remove flag is given, the element value is remove from target object.
+             * remove flag is given, the element value is remove from target object. Random access
+             * lists are accessed directly, navigable sets and deques are iterated from the nearer
+             * end, and other collections reuse the iteration cursor of the previous access if the
+             * target index is increasing (see {@link Cursor}).
              *
              * @param   <Type>  property value type.
              * @param   target  iterable target object value.
@@ -3494,9 +6913,47 @@ public abstract class AccessHelper {
              *
              * @return  element value.
              */
+            @SuppressWarnings("unchecked")
             private static <Type> Type access(Iterable<Type> target, int index, boolean remove) {
+                if ((target instanceof List<?>) && (target instanceof RandomAccess)) {
+                    List<Type> list = (List<Type>) target;
+                    if (index >= list.size()) {
+                        throw Failure.create(index, list.size());
+                    }
+                    return remove ? list.remove(index) : list.get(index);
+                } else if ((target instanceof NavigableSet<?>) || (target instanceof Deque<?>)) {
+                    int size = ((Collection<Type>) target).size();
+                    if (index >= size) {
+                        throw Failure.create(index, size);
+                    } else if (index > (size / 2)) {
+                        Iterator<Type> iter = (target instanceof Deque<?>)
+                            ? ((Deque<Type>) target).descendingIterator()
+                            : ((NavigableSet<Type>) target).descendingIterator();
+                        return Helper.access(iter, size - index - 1, remove, size);
+                    }
+                    return Helper.access(target.iterator(), index, remove, size);
+                } else if (!remove && Cursor.supports(target)) {
+                    return Cursor.access(target, index);
+                } else if (remove) {
+                    Cursor.reset();
+                }
+                return Helper.access(target.iterator(), index, remove, -1);
+            }
+
+            /**
+             * Resolve element value at given iteration index using given iterator. If remove flag
+             * is given, the element value is remove using the iterator.
+             *
+             * @param   <Type>  property value type.
+             * @param   iter    iterator of target object value.
+             * @param   index   iteration index for element value.
+             * @param   remove  whether to remove element value at index using the iterator.
+             * @param   size    number of elements used for failures ({@code -1} if unknown).
+             *
+             * @return  element value.
+             */
+            private static <Type> Type access(Iterator<Type> iter, int index, boolean remove, int size) {
                 int count = 0;
-                Iterator<Type> iter = target.iterator();
                 while (iter.hasNext()) {
                     Type next = iter.next();
                     if (count++ >= index) {
@@ -3506,7 +6963,121 @@ public abstract class AccessHelper {
                         return next;
                     }
                 }
-                throw Failure.create(index, count);
+                throw Failure.create(index, (size < 0) ? count : size);
+            }
+
+            /**
+             * Per thread iteration cursor remembering the iterator and index of the last indexed
+             * access to a collection, so that accessing increasing indexes of the same collection
+             * does not restart iteration. Modifications of the collection are detected by size
+             * changes and by the fail-fast iterators, restarting iteration. Since the iterator
+             * references the collection, the thread only weakly references the cursor, so that an
+             * idle cursor does not keep the collection alive. Weakly consistent collections of the
+             * concurrent package are never cached.
+             */
+            private static final class Cursor {
+
+                /**
+                 * Weak reference to iteration cursor of actual thread.
+                 */
+                private static final ThreadLocal<Reference<Cursor>> CURSOR = new ThreadLocal<Reference<Cursor>>();
+
+                /**
+                 * Iterated target collection.
+                 */
+                private final Iterable<?> target;
+
+                /**
+                 * Size of target collection at cursor creation.
+                 */
+                private final int size;
+
+                /**
+                 * Iterator of target collection.
+                 */
+                private final Iterator<?> iter;
+
+                /**
+                 * Index of last iterated element value.
+                 */
+                private int index = -1;
+
+                /**
+                 * Create iteration cursor for given target collection.
+                 *
+                 * @param  target  target collection.
+                 */
+                private Cursor(Iterable<?> target) {
+                    this.target = target;
+                    this.size = ((Collection<?>) target).size();
+                    this.iter = target.iterator();
+                }
+
+                /**
+                 * Check whether iteration cursor supports given iterable target object.
+                 *
+                 * @param   target  iterable target object.
+                 *
+                 * @return  whether iteration cursor supports given iterable target object.
+                 */
+                public static boolean supports(Iterable<?> target) {
+                    return (target instanceof Collection<?>)
+                        && !target.getClass().getName().startsWith("java.util.concurrent.");
+                }
+
+                /**
+                 * Reset iteration cursor of actual thread.
+                 */
+                public static void reset() {
+                    CURSOR.remove();
+                }
+
+                /**
+                 * Resolve element value at given target index in given target collection reusing
+                 * the iteration cursor of actual thread if possible. The iteration cursor is only
+                 * reused for the same target collection with unchanged size, if the iterator is not
+                 * exhausted and has not passed the target index yet.
+                 *
+                 * @param   <Type>  property value type.
+                 * @param   target  target collection.
+                 * @param   index   target index for element value.
+                 *
+                 * @return  element value.
+                 */
+                @SuppressWarnings("unchecked")
+                public static <Type> Type access(Iterable<Type> target, int index) {
+                    Reference<Cursor> cached = CURSOR.get();
+                    Cursor cursor = (cached != null) ? cached.get() : null;
+                    if ((cursor != null) && (cursor.target == target) && (cursor.index < index)
+                            && (cursor.size == ((Collection<?>) target).size()) && cursor.iter.hasNext()) {
+                        try {
+                            return (Type) cursor.next(index);
+                        } catch (ConcurrentModificationException except) {
+                            CURSOR.remove();
+                        }
+                    }
+                    cursor = new Cursor(target);
+                    CURSOR.set(new WeakReference<Cursor>(cursor));
+                    return (Type) cursor.next(index);
+                }
+
+                /**
+                 * Advance iteration cursor to given target index and return element value.
+                 *
+                 * @param   index  target index for element value.
+                 *
+                 * @return  element value.
+                 */
+                private Object next(int index) {
+                    while (this.iter.hasNext()) {
+                        Object next = this.iter.next();
+                        if (++this.index >= index) {
+                            return next;
+                        }
+                    }
+                    CURSOR.remove();
+                    throw Failure.create(index, this.index + 1);
+                }
             }
         }
     }
@@ -1,10 +1,28 @@
 package org.jactors.junit.helper;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
 /**
  * Bean access helper.
  */
@@ -132,6 +150,22 @@ public abstract class BeanHelper {
         }
     }
 
+    /**
+     * Compile given property path for given root class type into a property path evaluator (see
+     * {@link Evaluator}). Property path evaluators are cached per root class type.
+     *
+     * @param   type  root class type.
+     * @param   path  property path string.
+     *
+     * @return  property path evaluator.
+     */
+    public static Evaluator compile(Class<?> type, String path) {
+        if (type == null) {
+            throw AccessHelper.Failure.create(AccessHelper.Failure.Type.ARGUMENT, "type must not be null");
+        }
+        return Evaluator.create(type, AccessHelper.Beans.PropertyPath.compile(path));
+    }
+
     /**
      * Common property and accessor descriptor.
      *
@@ -338,6 +372,11 @@ public abstract class BeanHelper {
          */
         private final String name;
 
+        /**
+         * Generated direct property access ({@code null} if not available).
+         */
+        private final Direct direct;
+
         /**
          * Create bean property accessor for given parent bean accessor, bean property class type,
          * declared field, declared getter method, declared setter method, and bean sub-property
@@ -360,6 +399,8 @@ public abstract class BeanHelper {
             this.property = Helper.create(type, parent, field, getter, setter, name);
             this.parent = parent;
             this.name = name;
+            this.direct = ((name == null) || name.isEmpty()) //
+                ? Generated.create(this.property, field, getter, setter) : null;
         }
 
         /**
@@ -413,8 +454,10 @@ public abstract class BeanHelper {
         private Type read(Object target, String name) {
             if ((name != null) && !name.isEmpty()) {
                 return AccessHelper.Beans.read(this.read(target, null), name);
+            } else if ((this.direct != null) && this.direct.readable(target)) {
+                return this.direct.read(target);
             } else if (this.getter != null) {
-                return AccessHelper.Methods.invoke(target, this.getter);
+                return AccessHelper.Methods.invoke0(target, this.getter);
             } else if (this.field != null) {
                 return AccessHelper.Fields.get(target, this.field);
             }
@@ -468,9 +511,16 @@ public abstract class BeanHelper {
         private Type write(Object target, String name, Type value) {
             if ((name != null) && !name.isEmpty()) {
                 return AccessHelper.Beans.write(this.read(target, null), name, value);
+            } else if ((this.direct != null) && this.direct.writable(target, value)) {
+                if (this.setter != null) {
+                    Type before = this.direct.read(target);
+                    this.direct.write(target, value);
+                    return before;
+                }
+                return this.direct.write(target, value);
             } else if (this.setter != null) {
                 Type before = this.read(target, this.name);
-                AccessHelper.Methods.invoke(target, this.setter, value);
+                AccessHelper.Methods.invoke1(target, this.setter, value);
                 return before;
             } else if (this.field != null) {
                 return AccessHelper.Fields.set(target, this.field, value);
@@ -701,5 +751,1334 @@ public abstract class BeanHelper {
                 return null;
             }
         }
+
+        /**
+         * Direct property access implemented by generated accessor classes. Generated classes read
+         * the property of a target object by calling the property getter method or by accessing the
+         * property field directly. Generated classes of writable properties implement {@link
+         * Update}.
+         */
+        protected static interface Access {
+
+            /**
+             * Read property value from given target object using the getter method or the field.
+             *
+             * @param   target  target object.
+             *
+             * @return  property value.
+             */
+            Object get(Object target);
+        }
+
+        /**
+         * Direct property update implemented by generated accessor classes of writable properties.
+         * Generated classes write the property of a target object by calling the property setter
+         * method or by accessing the property field directly.
+         */
+        protected static interface Update extends Access {
+
+            /**
+             * Write given property value to given target object using the setter method or the
+             * field. If the property is written via the field, the previous field value is
+             * returned, otherwise {@code null}.
+             *
+             * @param   target  target object.
+             * @param   value   property value.
+             *
+             * @return  previous field value (may be null).
+             */
+            Object set(Object target, Object value);
+        }
+
+        /**
+         * Direct property access bypassing core reflection.
+         */
+        protected static interface Direct {
+
+            /**
+             * Check whether property of given target object can be read directly.
+             *
+             * @param   target  target object.
+             *
+             * @return  whether property can be read directly.
+             */
+            boolean readable(Object target);
+
+            /**
+             * Check whether given property value can be written directly to given target object.
+             *
+             * @param   target  target object.
+             * @param   value   property value.
+             *
+             * @return  whether property value can be written directly.
+             */
+            boolean writable(Object target, Object value);
+
+            /**
+             * Read property value from given target object.
+             *
+             * @param   <Type>  property type.
+             * @param   target  target object.
+             *
+             * @return  property value.
+             */
+            <Type> Type read(Object target);
+
+            /**
+             * Write given property value to given target object. If the property is written via
+             * the field, the previous field value is returned, otherwise {@code null}.
+             *
+             * @param   <Type>  property type.
+             * @param   target  target object.
+             * @param   value   property value.
+             *
+             * @return  previous field value (may be null).
+             */
+            <Type> Type write(Object target, Object value);
+        }
+
+        /**
+         * Direct property access using a generated accessor class. Direct access is only used for
+         * target objects and values that can be passed without conversion, all other accesses are
+         * left to core reflection to report the usual failures.
+         */
+        private static final class Generated implements Direct {
+
+            /**
+             * Empty call arguments.
+             */
+            private static final Object[] EMPTY_ARGS = new Object[0];
+
+            /**
+             * Cache of direct property accesses per declaring class type and property.
+             */
+            private static final AccessHelper.Cache<Direct> CACHE = new AccessHelper.Cache<Direct>();
+
+            /**
+             * Flag whether accessor classes can be generated (false if bytecode library is
+             * missing).
+             */
+            private static volatile boolean enabled = true;
+
+            /**
+             * Generated accessor instance.
+             */
+            private final Access access;
+
+            /**
+             * Most specific declaring class type of accessed members.
+             */
+            private final Class<?> owner;
+
+            /**
+             * Writable property class type ({@code null} if not writable).
+             */
+            private final Class<?> type;
+
+            /**
+             * Read member used by the accessor (field or getter method).
+             */
+            private final Member read;
+
+            /**
+             * Write member used by the accessor (field or setter method, may be null).
+             */
+            private final Member write;
+
+            /**
+             * Create direct property access with given generated accessor instance, given declaring
+             * class type, given writable property class type, given read member, and given write
+             * member.
+             *
+             * @param  access  generated accessor instance.
+             * @param  owner   declaring class type.
+             * @param  type    writable property class type.
+             * @param  read    read member (field or getter method).
+             * @param  write   write member (field or setter method, may be null).
+             */
+            private Generated(Access access, Class<?> owner, Class<?> type, Member read, Member write) {
+                this.access = access;
+                this.owner = owner;
+                this.type = type;
+                this.read = read;
+                this.write = write;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean readable(Object target) {
+                return this.owner.isInstance(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean writable(Object target, Object value) {
+                if ((this.type == null) || !this.owner.isInstance(target)) {
+                    return false;
+                } else if (this.type.isPrimitive()) {
+                    return (value != null) && AccessHelper.Classes.assignable(this.type, value.getClass());
+                }
+                return (value == null) || this.type.isInstance(value);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @SuppressWarnings("unchecked")
+            public <Type> Type read(Object target) {
+                try {
+                    return (Type) this.access.get(target);
+                } catch (RuntimeException except) {
+                    throw AccessHelper.Failure.create(Generated.message(target, this.read, EMPTY_ARGS),
+                        new InvocationTargetException(except));
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @SuppressWarnings("unchecked")
+            public <Type> Type write(Object target, Object value) {
+                try {
+                    return (Type) ((Update) this.access).set(target, value);
+                } catch (RuntimeException except) {
+                    throw AccessHelper.Failure.create(Generated.message(target, this.write, new Object[] { value }),
+                        new InvocationTargetException(except));
+                }
+            }
+
+            /**
+             * Create failure message for given target object, given accessed member, and given call
+             * arguments.
+             *
+             * @param   target  target object.
+             * @param   member  accessed member (field or method).
+             * @param   args    call arguments.
+             *
+             * @return  failure message.
+             */
+            private static AccessHelper.Failure.Helper.Message message(Object target, Member member, Object[] args) {
+                if (member instanceof Field) {
+                    return (args.length == 0) ? AccessHelper.Failure.Helper.message(target, (Field) member)
+                        : AccessHelper.Failure.Helper.message(target, (Field) member, args[0]);
+                }
+                return AccessHelper.Failure.Helper.message(target, (Method) member, args);
+            }
+
+            /**
+             * Resolve cached direct property access for given property definition, declared field,
+             * declared getter method, and declared setter method. If the members cannot be accessed
+             * by a generated accessor class, {@code null} is returned.
+             *
+             * @param   property  property definition.
+             * @param   field     declared property field.
+             * @param   getter    declared getter method.
+             * @param   setter    declared setter method.
+             *
+             * @return  direct property access (may be null).
+             */
+            public static Direct create(Property<?> property, Field field, Method getter, Method setter) {
+                if (!enabled) {
+                    return null;
+                }
+                try {
+                    Member read = (getter != null) ? getter : field;
+                    Member write = (setter != null) ? setter : (Generator.writable(field) ? field : null);
+                    if ((read == null) || !Generator.visible(read) || ((write != null) && !Generator.visible(write))) {
+                        return null;
+                    }
+                    Class<?> owner = Generated.owner(read.getDeclaringClass(), write);
+                    Object key = Arrays.asList(property.type().getName(), property.field(), //
+                            property.getter(), property.setter());
+                    Reference<Direct> cached = CACHE.get(owner, key);
+                    Direct direct = (cached != null) ? cached.get() : null;
+                    if (direct != null) {
+                        return direct;
+                    }
+                    Loader loader = Loader.get(owner.getClassLoader());
+                    synchronized (loader) {
+                        direct = (Direct) loader.find(owner, key);
+                        if (direct == null) {
+                            Access access = Generator.create(owner, read, write);
+                            Class<?> type = (write == null) ? null
+                                : ((write instanceof Field) ? ((Field) write).getType() //
+                                    : ((Method) write).getParameterTypes()[0]);
+                            direct = (Direct) loader.store(owner, key, new Generated(access, owner, type, read, write));
+                        }
+                    }
+                    return CACHE.put(owner, key, direct);
+                } catch (LinkageError error) {
+                    enabled = false;
+                    return null;
+                }
+            }
+
+            /**
+             * Resolve most specific declaring class type of given read member declaring class type
+             * and given write member.
+             *
+             * @param   owner  declaring class type of read member.
+             * @param   write  write member (may be null).
+             *
+             * @return  most specific declaring class type.
+             */
+            private static Class<?> owner(Class<?> owner, Member write) {
+                if ((write != null) && owner.isAssignableFrom(write.getDeclaringClass())) {
+                    return write.getDeclaringClass();
+                }
+                return owner;
+            }
+        }
+
+        /**
+         * Generator for accessor classes. Accessor classes are defined in a class loader shared per
+         * class loader of the declaring class type, see {@link Loader#get(ClassLoader)}. Accessor
+         * classes of read-only properties only implement {@link Access}, all other accessor classes
+         * implement {@link Update}.
+         */
+        private static final class Generator implements Opcodes {
+
+            /**
+             * Internal name of direct property access interface.
+             */
+            private static final String ACCESS = org.objectweb.asm.Type.getInternalName(Access.class);
+
+            /**
+             * Internal name of direct property update interface.
+             */
+            private static final String UPDATE = org.objectweb.asm.Type.getInternalName(Update.class);
+
+            /**
+             * Internal class name prefix of generated accessor classes.
+             */
+            private static final String PREFIX = ACCESS + "$";
+
+            /**
+             * Empty constructor argument types.
+             */
+            private static final Class<?>[] EMPTY_TYPES = new Class<?>[0];
+
+            /**
+             * Counter for unique accessor class names.
+             */
+            private static final AtomicInteger COUNTER = new AtomicInteger();
+
+            /**
+             * Check whether given declared field can be written by a generated accessor class.
+             *
+             * @param   field  declared field (may be null).
+             *
+             * @return  whether field can be written.
+             */
+            public static boolean writable(Field field) {
+                return (field != null) && !Modifier.isFinal(field.getModifiers());
+            }
+
+            /**
+             * Check whether given declared member can be accessed by a generated accessor class
+             * defined in a different class loader, i.e. whether the member is a public instance
+             * member of a public class and all involved class types are public.
+             *
+             * @param   member  declared member.
+             *
+             * @return  whether member can be accessed.
+             */
+            public static boolean visible(Member member) {
+                int modifiers = member.getModifiers();
+                if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)
+                        || !Generator.visible(member.getDeclaringClass())) {
+                    return false;
+                } else if (member instanceof Field) {
+                    return Generator.visible(((Field) member).getType());
+                }
+                return Generator.visible(((Method) member).getParameterTypes());
+            }
+
+            /**
+             * Check whether all given class types and their enclosing class types are public.
+             *
+             * @param   types  class types.
+             *
+             * @return  whether all class types are public.
+             */
+            private static boolean visible(Class<?>... types) {
+                for (Class<?> type : types) {
+                    while (type.isArray()) {
+                        type = type.getComponentType();
+                    }
+                    for (Class<?> scope = type; scope != null; scope = scope.getEnclosingClass()) {
+                        if (!scope.isPrimitive() && !Modifier.isPublic(scope.getModifiers())) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+
+            /**
+             * Create accessor instance of a generated accessor class for given declaring class
+             * type, given read member, and given write member.
+             *
+             * @param   owner  declaring class type.
+             * @param   read   read member (field or getter method).
+             * @param   write  write member (field or setter method, may be null).
+             *
+             * @return  accessor instance.
+             */
+            public static Access create(Class<?> owner, Member read, Member write) {
+                String name = PREFIX + COUNTER.incrementAndGet();
+                ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+                cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object",
+                    new String[] { (write != null) ? UPDATE : ACCESS });
+                MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+                mv.visitCode();
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+                mv.visitInsn(RETURN);
+                mv.visitMaxs(0, 0);
+                mv.visitEnd();
+                Generator.get(cw.visitMethod(ACC_PUBLIC, "get", "(Ljava/lang/Object;)Ljava/lang/Object;", null,
+                        null), read);
+                if (write != null) {
+                    Generator.set(cw.visitMethod(ACC_PUBLIC, "set",
+                            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", null, null), write);
+                }
+                cw.visitEnd();
+                Class<?> type = Loader.get(owner.getClassLoader()).define(name.replace('/', '.'), cw.toByteArray());
+                return (Access) AccessHelper.Objects.create(type, EMPTY_TYPES);
+            }
+
+            /**
+             * Generate read method body using given method visitor and given read member.
+             *
+             * @param  mv    method visitor.
+             * @param  read  read member (field or getter method).
+             */
+            private static void get(MethodVisitor mv, Member read) {
+                mv.visitCode();
+                Generator.load(mv, read, 1);
+                mv.visitInsn(ARETURN);
+                mv.visitMaxs(0, 0);
+                mv.visitEnd();
+            }
+
+            /**
+             * Generate write method body using given method visitor and given write member.
+             *
+             * @param  mv     method visitor.
+             * @param  write  write member (field or setter method).
+             */
+            private static void set(MethodVisitor mv, Member write) {
+                mv.visitCode();
+                if (write instanceof Field) {
+                    Field field = (Field) write;
+                    String owner = org.objectweb.asm.Type.getInternalName(field.getDeclaringClass());
+                    Generator.load(mv, field, 1);
+                    mv.visitVarInsn(ASTORE, 3);
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitTypeInsn(CHECKCAST, owner);
+                    mv.visitVarInsn(ALOAD, 2);
+                    Generator.unbox(mv, field.getType());
+                    mv.visitFieldInsn(PUTFIELD, owner, field.getName(),
+                        org.objectweb.asm.Type.getDescriptor(field.getType()));
+                    mv.visitVarInsn(ALOAD, 3);
+                    mv.visitInsn(ARETURN);
+                } else {
+                    Method method = (Method) write;
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitTypeInsn(CHECKCAST, org.objectweb.asm.Type.getInternalName(method.getDeclaringClass()));
+                    mv.visitVarInsn(ALOAD, 2);
+                    Generator.unbox(mv, method.getParameterTypes()[0]);
+                    Generator.invoke(mv, method);
+                    if (method.getReturnType() != void.class) {
+                        mv.visitInsn(((method.getReturnType() == long.class)
+                                || (method.getReturnType() == double.class)) ? POP2 : POP);
+                    }
+                    mv.visitInsn(ACONST_NULL);
+                    mv.visitInsn(ARETURN);
+                }
+                mv.visitMaxs(0, 0);
+                mv.visitEnd();
+            }
+
+            /**
+             * Generate code to read the boxed value of given read member from the target object
+             * stored in given local variable slot.
+             *
+             * @param  mv    method visitor.
+             * @param  read  read member (field or getter method).
+             * @param  slot  local variable slot of target object.
+             */
+            private static void load(MethodVisitor mv, Member read, int slot) {
+                String owner = org.objectweb.asm.Type.getInternalName(read.getDeclaringClass());
+                mv.visitVarInsn(ALOAD, slot);
+                mv.visitTypeInsn(CHECKCAST, owner);
+                if (read instanceof Field) {
+                    Field field = (Field) read;
+                    mv.visitFieldInsn(GETFIELD, owner, field.getName(),
+                        org.objectweb.asm.Type.getDescriptor(field.getType()));
+                    Generator.box(mv, field.getType());
+                } else {
+                    Method method = (Method) read;
+                    Generator.invoke(mv, method);
+                    Generator.box(mv, method.getReturnType());
+                }
+            }
+
+            /**
+             * Generate code to invoke given declared instance method.
+             *
+             * @param  mv      method visitor.
+             * @param  method  declared instance method.
+             */
+            private static void invoke(MethodVisitor mv, Method method) {
+                Class<?> owner = method.getDeclaringClass();
+                mv.visitMethodInsn(owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                    org.objectweb.asm.Type.getInternalName(owner), method.getName(),
+                    org.objectweb.asm.Type.getMethodDescriptor(method), owner.isInterface());
+            }
+
+            /**
+             * Generate code to box a value of given class type on top of the stack.
+             *
+             * @param  mv    method visitor.
+             * @param  type  value class type.
+             */
+            private static void box(MethodVisitor mv, Class<?> type) {
+                if (type.isPrimitive()) {
+                    String boxed = org.objectweb.asm.Type.getInternalName(AccessHelper.Classes.box(type));
+                    mv.visitMethodInsn(INVOKESTATIC, boxed, "valueOf",
+                        "(" + org.objectweb.asm.Type.getDescriptor(type) + ")L" + boxed + ";", false);
+                }
+            }
+
+            /**
+             * Generate code to unbox or cast the object on top of the stack to given class type.
+             *
+             * @param  mv    method visitor.
+             * @param  type  target class type.
+             */
+            private static void unbox(MethodVisitor mv, Class<?> type) {
+                if (type.isPrimitive()) {
+                    String boxed = org.objectweb.asm.Type.getInternalName(AccessHelper.Classes.box(type));
+                    mv.visitTypeInsn(CHECKCAST, boxed);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, boxed, type.getName() + "Value",
+                        "()" + org.objectweb.asm.Type.getDescriptor(type), false);
+                } else if (type != Object.class) {
+                    mv.visitTypeInsn(CHECKCAST, org.objectweb.asm.Type.getInternalName(type));
+                }
+            }
+        }
+
+        /**
+         * Class loader for generated accessor classes. Classes are resolved using the class loader of
+         * the declaring class type, falling back to the class loader of the bean helper to resolve
+         * the direct property access interface. One class loader is shared per parent class loader.
+         * The class loader keeps the instances of its generated classes, so that a class is only
+         * generated once per class loader, even if a cached instance has been cleared, since a class
+         * loader can only be collected together with all its classes. The class loader itself is
+         * only weakly referenced, so that it is collected together with its generated classes as
+         * soon as none of these is cached anymore.
+         */
+        private static final class Loader extends ClassLoader {
+
+            /**
+             * Shared class loaders by parent class loader.
+             */
+            private static final Map<ClassLoader, Reference<Loader>> LOADERS = //
+                new WeakHashMap<ClassLoader, Reference<Loader>>();
+
+            /**
+             * Instances of generated classes by class type and lookup key.
+             */
+            private final Map<Object, Object> instances = new HashMap<Object, Object>();
+
+            /**
+             * Create class loader using given parent class loader (may be null).
+             *
+             * @param  parent  parent class loader.
+             */
+            private Loader(ClassLoader parent) {
+                super(parent);
+            }
+
+            /**
+             * Resolve shared class loader for given parent class loader (may be null).
+             *
+             * @param   parent  parent class loader.
+             *
+             * @return  shared class loader.
+             */
+            private static Loader get(ClassLoader parent) {
+                synchronized (LOADERS) {
+                    Reference<Loader> cached = LOADERS.get(parent);
+                    Loader loader = (cached != null) ? cached.get() : null;
+                    if (loader == null) {
+                        loader = new Loader(parent);
+                        LOADERS.put(parent, new WeakReference<Loader>(loader));
+                    }
+                    return loader;
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                try {
+                    return super.loadClass(name, resolve);
+                } catch (ClassNotFoundException except) {
+                    return Class.forName(name, resolve, BeanHelper.class.getClassLoader());
+                }
+            }
+
+            /**
+             * Find instance of generated class for given class type and given lookup key. Callers
+             * must synchronize on this class loader while finding, generating, and storing
+             * instances.
+             *
+             * @param   type  class type.
+             * @param   key   lookup key.
+             *
+             * @return  instance of generated class (may be null).
+             */
+            private Object find(Class<?> type, Object key) {
+                return this.instances.get(Arrays.asList(type, key));
+            }
+
+            /**
+             * Store given instance of generated class for given class type and given lookup key and
+             * return the instance.
+             *
+             * @param   type      class type.
+             * @param   key       lookup key.
+             * @param   instance  instance of generated class.
+             *
+             * @return  instance of generated class.
+             */
+            private Object store(Class<?> type, Object key, Object instance) {
+                this.instances.put(Arrays.asList(type, key), instance);
+                return instance;
+            }
+
+            /**
+             * Define class type using given class name and given byte code buffer.
+             *
+             * @param   name    class name.
+             * @param   buffer  class byte code buffer.
+             *
+             * @return  class type.
+             */
+            private Class<?> define(String name, byte[] buffer) {
+                return this.defineClass(name, buffer, 0, buffer.length);
+            }
+        }
+    }
+
+    /**
+     * Property path evaluator for a root class type. For property paths that can be resolved
+     * statically, i.e. paths consisting of public bean properties of concrete class types, array
+     * indexes, and list indexes, the evaluator uses a generated class reading and writing the
+     * property path by direct field and method access and array and list indexing. Each step is
+     * guarded by a type check (exact class type for bean properties) and a bounds check; if any
+     * check fails, the evaluator falls back to the interpreting property path (see {@link
+     * AccessHelper.Beans.PropertyPath}), which also reports the usual failures.
+     */
+    public static final class Evaluator {
+
+        /**
+         * Cache of property path evaluators per root class type and property path string.
+         */
+        private static final AccessHelper.Cache<Evaluator> CACHE = new AccessHelper.Cache<Evaluator>();
+
+        /**
+         * Flag whether evaluator classes can be generated (false if bytecode library is missing).
+         */
+        private static volatile boolean enabled = true;
+
+        /**
+         * Root class type.
+         */
+        private final Class<?> type;
+
+        /**
+         * Interpreting property path.
+         */
+        private final AccessHelper.Beans.PropertyPath path;
+
+        /**
+         * Generated property path walker ({@code null} if not available).
+         */
+        private final Walk walk;
+
+        /**
+         * Writable property class type ({@code null} if not writable by walker).
+         */
+        private final Class<?> value;
+
+        /**
+         * Create property path evaluator for given root class type, interpreting property path,
+         * generated property path walker, and writable property class type.
+         *
+         * @param  type   root class type.
+         * @param  path   interpreting property path.
+         * @param  walk   generated property path walker (may be null).
+         * @param  value  writable property class type (may be null).
+         */
+        private Evaluator(Class<?> type, AccessHelper.Beans.PropertyPath path, Walk walk, Class<?> value) {
+            this.type = type;
+            this.path = path;
+            this.walk = walk;
+            this.value = value;
+        }
+
+        /**
+         * Resolve cached property path evaluator for given root class type and property path.
+         *
+         * @param   type  root class type.
+         * @param   path  interpreting property path.
+         *
+         * @return  property path evaluator.
+         */
+        protected static Evaluator create(Class<?> type, AccessHelper.Beans.PropertyPath path) {
+            String key = path.toString();
+            Reference<Evaluator> cached = CACHE.get(type, key);
+            Evaluator evaluator = (cached != null) ? cached.get() : null;
+            if (evaluator != null) {
+                return evaluator;
+            }
+            if (enabled) {
+                try {
+                    List<Step> steps = Step.plan(type, path.segments());
+                    if (steps != null) {
+                        Accessor.Loader loader = Accessor.Loader.get(type.getClassLoader());
+                        synchronized (loader) {
+                            evaluator = (Evaluator) loader.find(type, key);
+                            if (evaluator == null) {
+                                Step last = steps.remove(steps.size() - 1);
+                                Step store = Step.store(last.owner, last.generic, last.name);
+                                Walk walk = Compiler.create(type, steps, last, store);
+                                evaluator = (Evaluator) loader.store(type, key, new Evaluator(type, path, walk,
+                                            (store != null) ? store.result : null));
+                            }
+                        }
+                    }
+                } catch (LinkageError error) {
+                    enabled = false;
+                }
+            }
+            return CACHE.put(type, key, (evaluator != null) ? evaluator : new Evaluator(type, path, null, null));
+        }
+
+        /**
+         * Return whether this property path evaluator uses a generated property path walker.
+         *
+         * @return  whether generated property path walker is used.
+         */
+        public boolean compiled() {
+            return this.walk != null;
+        }
+
+        /**
+         * Read target property value identified by the property path from given target object
+         * value (see {@link AccessHelper.Beans.PropertyPath#read(Object)}).
+         *
+         * @param   <Type>  property value type.
+         * @param   target  target object value.
+         *
+         * @return  property value.
+         */
+        @SuppressWarnings("unchecked")
+        public <Type> Type read(Object target) {
+            if (this.walk != null) {
+                Object result;
+                try {
+                    result = this.walk.read(target);
+                } catch (RuntimeException except) {
+                    throw AccessHelper.Failure.create(AccessHelper.Failure.Helper.message(target, //
+                            this.path.toString()), except);
+                }
+                if (result != this.walk) {
+                    return (Type) result;
+                }
+            }
+            return this.path.read(target);
+        }
+
+        /**
+         * Write given target property value to property identified by the property path on given
+         * target object value and return previous property value (see {@link
+         * AccessHelper.Beans.PropertyPath#write(Object, Object)}).
+         *
+         * @param   <Type>  property value type.
+         * @param   target  target object value.
+         * @param   value   target property value.
+         *
+         * @return  previous property value.
+         */
+        @SuppressWarnings("unchecked")
+        public <Type> Type write(Object target, Type value) {
+            if (this.writable(value)) {
+                Object result;
+                try {
+                    result = this.walk.write(target, value);
+                } catch (RuntimeException except) {
+                    throw AccessHelper.Failure.create(AccessHelper.Failure.Helper.message(target, //
+                            this.path.toString(), value), except);
+                }
+                if (result != this.walk) {
+                    return (Type) result;
+                }
+            }
+            return this.path.write(target, value);
+        }
+
+        /**
+         * Check whether given property value can be written by the generated property path walker
+         * without conversion.
+         *
+         * @param   value  property value.
+         *
+         * @return  whether property value can be written by generated property path walker.
+         */
+        private boolean writable(Object value) {
+            if (this.value == null) {
+                return false;
+            } else if (this.value.isPrimitive()) {
+                return (value != null) && AccessHelper.Classes.assignable(this.value, value.getClass());
+            }
+            return (value == null) || this.value.isInstance(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public String toString() {
+            return "Evaluator[type=" + this.type.getName() + ", path=" + this.path //
+                + ", compiled=" + this.compiled() + "]";
+        }
+
+        /**
+         * Property path walker implemented by generated evaluator classes. The walker returns
+         * itself if a type check or bounds check fails.
+         */
+        protected static interface Walk {
+
+            /**
+             * Read property value from given target object.
+             *
+             * @param   target  target object.
+             *
+             * @return  property value, or the walker itself if a check fails.
+             */
+            Object read(Object target);
+
+            /**
+             * Write given property value to given target object and return previous property
+             * value.
+             *
+             * @param   target  target object.
+             * @param   value   property value.
+             *
+             * @return  previous property value, or the walker itself if a check fails.
+             */
+            Object write(Object target, Object value);
+        }
+
+        /**
+         * Statically resolved property path step. A step either accesses a bean property of an
+         * exact class type via a getter method or field, or an index of an array or list.
+         */
+        private static final class Step {
+
+            /**
+             * Pattern for supported index values. Indexes with leading zeros are left to the
+             * interpreter, that decodes them as octal numbers.
+             */
+            private static final Pattern INDEX = Pattern.compile("0|[1-9]\\d{0,8}");
+
+            /**
+             * Pattern for supported bean property names.
+             */
+            private static final Pattern NAME = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+            /**
+             * Class type of accessed object value (array class type or list type for indexes).
+             */
+            private final Class<?> owner;
+
+            /**
+             * Declared generic type of accessed object value.
+             */
+            private final java.lang.reflect.Type generic;
+
+            /**
+             * Path segment name.
+             */
+            private final String name;
+
+            /**
+             * Index value (only for arrays and lists).
+             */
+            private final int index;
+
+            /**
+             * Read member (field or getter method, {@code null} for indexes).
+             */
+            private final Member read;
+
+            /**
+             * Setter method (only for bean property writes using setter method).
+             */
+            private final Method setter;
+
+            /**
+             * Class type of resulting property value.
+             */
+            private final Class<?> result;
+
+            /**
+             * Declared generic type of resulting property value.
+             */
+            private final java.lang.reflect.Type type;
+
+            /**
+             * Whether the class type of the accessed object value must match exactly.
+             */
+            private final boolean exact;
+
+            /**
+             * Create property path step.
+             *
+             * @param  owner    class type of accessed object value.
+             * @param  generic  declared generic type of accessed object value.
+             * @param  name     path segment name.
+             * @param  index    index value.
+             * @param  read     read member.
+             * @param  setter   setter method.
+             * @param  result   class type of resulting property value.
+             * @param  type     declared generic type of resulting property value.
+             * @param  exact    whether the class type must match exactly.
+             */
+            private Step(Class<?> owner, java.lang.reflect.Type generic, String name, int index, Member read,
+                    Method setter, Class<?> result, java.lang.reflect.Type type, boolean exact) {
+                this.owner = owner;
+                this.generic = generic;
+                this.name = name;
+                this.index = index;
+                this.read = read;
+                this.setter = setter;
+                this.result = result;
+                this.type = type;
+                this.exact = exact;
+            }
+
+            /**
+             * Resolve read steps for given root class type and given path segment names.
+             *
+             * @param   type   root class type.
+             * @param   names  path segment names.
+             *
+             * @return  list of read steps ({@code null} if not resolvable).
+             */
+            public static List<Step> plan(Class<?> type, List<String> names) {
+                List<Step> steps = new ArrayList<Step>(names.size());
+                Class<?> owner = type;
+                java.lang.reflect.Type generic = type;
+                for (String name : names) {
+                    Step step = Step.read(owner, generic, name);
+                    if (step == null) {
+                        return null;
+                    }
+                    steps.add(step);
+                    owner = step.result;
+                    generic = step.type;
+                }
+                return steps;
+            }
+
+            /**
+             * Resolve read step for given class type, declared generic type, and path segment
+             * name.
+             *
+             * @param   owner    class type of accessed object value.
+             * @param   generic  declared generic type of accessed object value.
+             * @param   name     path segment name.
+             *
+             * @return  read step ({@code null} if not resolvable).
+             */
+            private static Step read(Class<?> owner, java.lang.reflect.Type generic, String name) {
+                if (INDEX.matcher(name).matches()) {
+                    return Step.index(owner, generic, name, false);
+                } else if (!NAME.matcher(name).matches() || !Step.bean(owner)) {
+                    return null;
+                }
+                Member read = AccessHelper.Beans.getter(owner, null, name, AccessHelper.Beans.Mode.AUTO);
+                if (read == null) {
+                    read = AccessHelper.Beans.field(owner, null, name, AccessHelper.Beans.Mode.AUTO);
+                }
+                if ((read == null) || !Accessor.Generator.visible(read)) {
+                    return null;
+                } else if (read instanceof Field) {
+                    Field field = (Field) read;
+                    return new Step(owner, generic, name, 0, field, null, field.getType(), field.getGenericType(),
+                            true);
+                }
+                Method method = (Method) read;
+                return new Step(owner, generic, name, 0, method, null, method.getReturnType(),
+                        method.getGenericReturnType(), true);
+            }
+
+            /**
+             * Resolve store step for given class type, declared generic type, and path segment
+             * name, writing either a bean property via getter and setter method or via field, or
+             * an index of an array or list.
+             *
+             * @param   owner    class type of accessed object value.
+             * @param   generic  declared generic type of accessed object value.
+             * @param   name     path segment name.
+             *
+             * @return  store step ({@code null} if not resolvable).
+             */
+            public static Step store(Class<?> owner, java.lang.reflect.Type generic, String name) {
+                if (INDEX.matcher(name).matches()) {
+                    return Step.index(owner, generic, name, true);
+                } else if (!NAME.matcher(name).matches() || !Step.bean(owner)) {
+                    return null;
+                }
+                Method getter = AccessHelper.Beans.getter(owner, null, name, AccessHelper.Beans.Mode.AUTO);
+                Method setter = (getter != null) ? Step.setter(owner, name) : null;
+                if ((getter != null) && (setter != null)) {
+                    if (!Accessor.Generator.visible(getter) || !Accessor.Generator.visible(setter)) {
+                        return null;
+                    }
+                    return new Step(owner, generic, name, 0, getter, setter, setter.getParameterTypes()[0], null,
+                            true);
+                }
+                Field field = AccessHelper.Beans.field(owner, null, name, AccessHelper.Beans.Mode.AUTO);
+                if ((field == null) || !Accessor.Generator.writable(field) || !Accessor.Generator.visible(field)) {
+                    return null;
+                }
+                return new Step(owner, generic, name, 0, field, null, field.getType(), null, true);
+            }
+
+            /**
+             * Resolve index step for given array or list class type, declared generic type, and
+             * index path segment name. Array stores require the exact array class type.
+             *
+             * @param   owner    class type of accessed object value.
+             * @param   generic  declared generic type of accessed object value.
+             * @param   name     index path segment name.
+             * @param   store    whether the step stores the element.
+             *
+             * @return  index step ({@code null} if not resolvable).
+             */
+            private static Step index(Class<?> owner, java.lang.reflect.Type generic, String name, boolean store) {
+                int index = Integer.parseInt(name);
+                if (owner.isArray() && Accessor.Generator.visible(owner)) {
+                    java.lang.reflect.Type type = (generic instanceof GenericArrayType)
+                        ? ((GenericArrayType) generic).getGenericComponentType() : owner.getComponentType();
+                    return new Step(owner, generic, name, index, null, null, owner.getComponentType(), type, store);
+                } else if (List.class.isAssignableFrom(owner)) {
+                    Class<?> result = AccessHelper.Classes.generic(generic, List.class, 0);
+                    java.lang.reflect.Type type = AccessHelper.Classes.argument(generic, List.class, 0);
+                    return new Step(List.class, generic, name, index, null, null,
+                            (result != null) ? result : Object.class, type, false);
+                }
+                return null;
+            }
+
+            /**
+             * Check whether given class type is a concrete bean class type, i.e. a public concrete
+             * class type, which is neither an array, nor a map, nor an iterable.
+             *
+             * @param   type  class type.
+             *
+             * @return  whether class type is a concrete bean class type.
+             */
+            private static boolean bean(Class<?> type) {
+                return !type.isArray() && !type.isPrimitive() && !type.isInterface()
+                    && !Modifier.isAbstract(type.getModifiers()) && !Map.class.isAssignableFrom(type)
+                    && !Iterable.class.isAssignableFrom(type) && Accessor.Generator.visible(type);
+            }
+
+            /**
+             * Resolve the only public setter method for given bean property name of given class
+             * type.
+             *
+             * @param   owner  class type.
+             * @param   name   bean property name.
+             *
+             * @return  setter method ({@code null} if not available or ambiguous).
+             */
+            private static Method setter(Class<?> owner, String name) {
+                String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                Method result = null;
+                for (Method method : owner.getMethods()) {
+                    if (setter.equals(method.getName()) && (method.getParameterTypes().length == 1)) {
+                        if (result != null) {
+                            return null;
+                        }
+                        result = method;
+                    }
+                }
+                return (result != null)
+                        && result.equals(AccessHelper.Beans.setter(owner, null, name, AccessHelper.Beans.Mode.AUTO))
+                    ? result : null;
+            }
+        }
+
+        /**
+         * Compiler for property path walker classes. Walker classes are defined in the class loader
+         * shared per class loader of the root class type (see {@link Accessor.Loader}), that keeps
+         * the property path evaluators using them, so that a walker class is only compiled once per
+         * root class type and property path while the class loader is alive.
+         */
+        private static final class Compiler implements Opcodes {
+
+            /**
+             * Internal name of property path walker interface.
+             */
+            private static final String WALK = org.objectweb.asm.Type.getInternalName(Walk.class);
+
+            /**
+             * Internal class name prefix of generated walker classes.
+             */
+            private static final String PREFIX = WALK + "$";
+
+            /**
+             * Internal name of list interface.
+             */
+            private static final String LIST = "java/util/List";
+
+            /**
+             * Empty constructor argument types.
+             */
+            private static final Class<?>[] EMPTY_TYPES = new Class<?>[0];
+
+            /**
+             * Counter for unique walker class names.
+             */
+            private static final AtomicInteger COUNTER = new AtomicInteger();
+
+            /**
+             * Local variable slot of actual object value.
+             */
+            private static final int ACTUAL = 3;
+
+            /**
+             * Local variable slot of previous property value.
+             */
+            private static final int BEFORE = 4;
+
+            /**
+             * Create walker instance of a generated walker class for given root class type, given
+             * parent read steps, given last read step, and given store step.
+             *
+             * @param   owner  root class type.
+             * @param   steps  parent read steps.
+             * @param   last   last read step.
+             * @param   store  store step (may be null).
+             *
+             * @return  walker instance.
+             */
+            public static Walk create(Class<?> owner, List<Step> steps, Step last, Step store) {
+                String name = PREFIX + COUNTER.incrementAndGet();
+                ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+                cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object",
+                    new String[] { WALK });
+                MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+                mv.visitCode();
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+                mv.visitInsn(RETURN);
+                mv.visitMaxs(0, 0);
+                mv.visitEnd();
+                Compiler.read(cw.visitMethod(ACC_PUBLIC, "read", "(Ljava/lang/Object;)Ljava/lang/Object;", null,
+                        null), steps, last);
+                Compiler.write(cw.visitMethod(ACC_PUBLIC, "write",
+                        "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", null, null), steps, store);
+                cw.visitEnd();
+                Class<?> type = Accessor.Loader.get(owner.getClassLoader()).define(name.replace('/', '.'),
+                        cw.toByteArray());
+                return (Walk) AccessHelper.Objects.create(type, EMPTY_TYPES);
+            }
+
+            /**
+             * Generate read method body using given method visitor, given parent read steps, and
+             * given last read step.
+             *
+             * @param  mv     method visitor.
+             * @param  steps  parent read steps.
+             * @param  last   last read step.
+             */
+            private static void read(MethodVisitor mv, List<Step> steps, Step last) {
+                Label fallback = new Label();
+                mv.visitCode();
+                Compiler.walk(mv, steps, fallback);
+                Compiler.guard(mv, last, fallback);
+                Compiler.load(mv, last);
+                mv.visitInsn(ARETURN);
+                mv.visitLabel(fallback);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(ARETURN);
+                mv.visitMaxs(0, 0);
+                mv.visitEnd();
+            }
+
+            /**
+             * Generate write method body using given method visitor, given parent read steps, and
+             * given store step.
+             *
+             * @param  mv     method visitor.
+             * @param  steps  parent read steps.
+             * @param  store  store step (may be null).
+             */
+            private static void write(MethodVisitor mv, List<Step> steps, Step store) {
+                Label fallback = new Label();
+                mv.visitCode();
+                if (store != null) {
+                    Compiler.walk(mv, steps, fallback);
+                    Compiler.guard(mv, store, fallback);
+                    Compiler.store(mv, store);
+                }
+                mv.visitLabel(fallback);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(ARETURN);
+                mv.visitMaxs(0, 0);
+                mv.visitEnd();
+            }
+
+            /**
+             * Generate code walking given read steps from the target object to the parent object
+             * value, which is stored in the actual object value slot.
+             *
+             * @param  mv        method visitor.
+             * @param  steps     parent read steps.
+             * @param  fallback  label of fallback code.
+             */
+            private static void walk(MethodVisitor mv, List<Step> steps, Label fallback) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitVarInsn(ASTORE, ACTUAL);
+                for (Step step : steps) {
+                    Compiler.guard(mv, step, fallback);
+                    Compiler.load(mv, step);
+                    mv.visitVarInsn(ASTORE, ACTUAL);
+                }
+            }
+
+            /**
+             * Generate code checking the type and bounds of the actual object value for given
+             * step, jumping to given fallback label if a check fails.
+             *
+             * @param  mv        method visitor.
+             * @param  step      property path step.
+             * @param  fallback  label of fallback code.
+             */
+            private static void guard(MethodVisitor mv, Step step, Label fallback) {
+                String owner = org.objectweb.asm.Type.getInternalName(step.owner);
+                mv.visitVarInsn(ALOAD, ACTUAL);
+                if (step.exact) {
+                    mv.visitJumpInsn(IFNULL, fallback);
+                    mv.visitVarInsn(ALOAD, ACTUAL);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "getClass", "()Ljava/lang/Class;", false);
+                    mv.visitLdcInsn(org.objectweb.asm.Type.getType(step.owner));
+                    mv.visitJumpInsn(IF_ACMPNE, fallback);
+                } else {
+                    mv.visitTypeInsn(INSTANCEOF, owner);
+                    mv.visitJumpInsn(IFEQ, fallback);
+                }
+                if (step.read == null) {
+                    mv.visitVarInsn(ALOAD, ACTUAL);
+                    mv.visitTypeInsn(CHECKCAST, owner);
+                    if (step.owner.isArray()) {
+                        mv.visitInsn(ARRAYLENGTH);
+                    } else {
+                        mv.visitMethodInsn(INVOKEINTERFACE, LIST, "size", "()I", true);
+                    }
+                    mv.visitLdcInsn(Integer.valueOf(step.index));
+                    mv.visitJumpInsn(IF_ICMPLE, fallback);
+                }
+            }
+
+            /**
+             * Generate code reading the boxed property value of given step from the actual object
+             * value.
+             *
+             * @param  mv    method visitor.
+             * @param  step  property path step.
+             */
+            private static void load(MethodVisitor mv, Step step) {
+                if (step.read != null) {
+                    Accessor.Generator.load(mv, step.read, ACTUAL);
+                    return;
+                }
+                mv.visitVarInsn(ALOAD, ACTUAL);
+                mv.visitTypeInsn(CHECKCAST, org.objectweb.asm.Type.getInternalName(step.owner));
+                mv.visitLdcInsn(Integer.valueOf(step.index));
+                if (step.owner.isArray()) {
+                    Class<?> type = step.owner.getComponentType();
+                    mv.visitInsn(org.objectweb.asm.Type.getType(type).getOpcode(IALOAD));
+                    Accessor.Generator.box(mv, type);
+                } else {
+                    mv.visitMethodInsn(INVOKEINTERFACE, LIST, "get", "(I)Ljava/lang/Object;", true);
+                }
+            }
+
+            /**
+             * Generate code writing the property value to the actual object value using given
+             * store step and returning the previous property value.
+             *
+             * @param  mv     method visitor.
+             * @param  store  store step.
+             */
+            private static void store(MethodVisitor mv, Step store) {
+                String owner = org.objectweb.asm.Type.getInternalName(store.owner);
+                if ((store.read == null) && !store.owner.isArray()) {
+                    mv.visitVarInsn(ALOAD, ACTUAL);
+                    mv.visitTypeInsn(CHECKCAST, owner);
+                    mv.visitLdcInsn(Integer.valueOf(store.index));
+                    mv.visitVarInsn(ALOAD, 2);
+                    mv.visitMethodInsn(INVOKEINTERFACE, LIST, "set", "(ILjava/lang/Object;)Ljava/lang/Object;",
+                        true);
+                    mv.visitInsn(ARETURN);
+                    return;
+                }
+                Compiler.load(mv, store);
+                mv.visitVarInsn(ASTORE, BEFORE);
+                if (store.read == null) {
+                    mv.visitVarInsn(ALOAD, ACTUAL);
+                    mv.visitTypeInsn(CHECKCAST, owner);
+                    mv.visitLdcInsn(Integer.valueOf(store.index));
+                    mv.visitVarInsn(ALOAD, 2);
+                    Accessor.Generator.unbox(mv, store.result);
+                    mv.visitInsn(org.objectweb.asm.Type.getType(store.result).getOpcode(IASTORE));
+                } else if (store.setter != null) {
+                    Method setter = store.setter;
+                    mv.visitVarInsn(ALOAD, ACTUAL);
+                    mv.visitTypeInsn(CHECKCAST, org.objectweb.asm.Type.getInternalName(setter.getDeclaringClass()));
+                    mv.visitVarInsn(ALOAD, 2);
+                    Accessor.Generator.unbox(mv, store.result);
+                    Accessor.Generator.invoke(mv, setter);
+                    if (setter.getReturnType() != void.class) {
+                        mv.visitInsn(((setter.getReturnType() == long.class)
+                                || (setter.getReturnType() == double.class)) ? POP2 : POP);
+                    }
+                } else {
+                    Field field = (Field) store.read;
+                    String declaring = org.objectweb.asm.Type.getInternalName(field.getDeclaringClass());
+                    mv.visitVarInsn(ALOAD, ACTUAL);
+                    mv.visitTypeInsn(CHECKCAST, declaring);
+                    mv.visitVarInsn(ALOAD, 2);
+                    Accessor.Generator.unbox(mv, store.result);
+                    mv.visitFieldInsn(PUTFIELD, declaring, field.getName(),
+                        org.objectweb.asm.Type.getDescriptor(field.getType()));
+                }
+                mv.visitVarInsn(ALOAD, BEFORE);
+                mv.visitInsn(ARETURN);
+            }
+        }
     }
 }
@@ -1,7 +1,10 @@
 package org.jactors.junit.helper;
 
 import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InvalidClassException;
@@ -9,16 +12,55 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Helper class to clone object via serialization.
+ * Helper class to clone object via serialization (in memory or streamed through memory mapped
+ * files), and to deep copy objects via reflective field copy plans.
  */
 public abstract class CloneHelper {
 
     /**
-     * Create cloned object for given source object via simple serialization.
+     * Per thread serialization buffer reused by subsequent round trips.
+     */
+    private static final ThreadLocal<Buffer> BUFFER = new ThreadLocal<Buffer>();
+
+    /**
+     * Create cloned object for given source object via simple serialization. The round trip
+     * reuses a per thread serialization buffer and reads back from its backing array without
+     * copying. Class descriptors are not serialized, but resolved from the local class
+     * descriptor cache of the runtime using the classes annotated during serialization.
      *
      * @param   <Type>  object type.
      * @param   object  source object.
@@ -32,13 +74,13 @@ public abstract class CloneHelper {
     public static <Type> Type clone(Type object) throws IOException, ClassNotFoundException {
         CloneHelper.Output cout = null;
         CloneHelper.Input cin = null;
-        Queue<Class<?>> queue = new LinkedList<Class<?>>();
+        Queue<Class<?>> queue = new ArrayDeque<Class<?>>();
+        Buffer buffer = Buffer.acquire();
         try {
-            ByteArrayOutputStream sout = new ByteArrayOutputStream();
-            cout = new Output(sout, queue);
+            cout = new Output(buffer, queue);
             cout.writeObject(object);
-            ByteArrayInputStream sin = new ByteArrayInputStream(sout.toByteArray());
-            cin = new Input(sin, queue);
+            cout.flush();
+            cin = new Input(buffer.input(), queue);
             return (Type) cin.readObject();
         } finally {
             if (cout != null) {
@@ -47,9 +89,81 @@ public abstract class CloneHelper {
             if (cin != null) {
                 cin.close();
             }
+            buffer.release();
+        }
+    }
+
+    /**
+     * Create cloned object for given source object via serialization streamed through a temporary
+     * file that is read back from memory mappings of the file, so that the serialized form is not
+     * held in heap memory. The round trip reports the serialized size and the round trip time.
+     * Note: class descriptors are not written to the stream but resolved from the annotated class
+     * types on input, so the serialized size excludes them, see {@link Trip#size()}.
+     *
+     * @param   <Type>  object type.
+     * @param   object  source object.
+     *
+     * @return  round trip result with cloned object.
+     *
+     * @throws  IOException             if any I/O problem occurs on the stream.
+     * @throws  ClassNotFoundException  if class cannot be found.
+     */
+    @SuppressWarnings("unchecked")
+    public static <Type> Trip<Type> stream(Type object) throws IOException, ClassNotFoundException {
+        File file = File.createTempFile("clone-", ".ser");
+        long start = System.nanoTime();
+        OutputStream fout = null;
+        CloneHelper.Output cout = null;
+        CloneHelper.Input cin = null;
+        RandomAccessFile access = null;
+        Queue<Class<?>> queue = new ArrayDeque<Class<?>>();
+        try {
+            fout = new FileOutputStream(file);
+            cout = new Output(new BufferedOutputStream(fout, Trip.SIZE), queue);
+            cout.writeObject(object);
+            cout.close();
+            access = new RandomAccessFile(file, "r");
+            long size = access.length();
+            cin = new Input(new Mapped(access.getChannel(), size), queue);
+            Type clone = (Type) cin.readObject();
+            return new Trip<Type>(clone, size, System.nanoTime() - start);
+        } finally {
+            if (cout != null) {
+                cout.close();
+            } else if (fout != null) {
+                fout.close();
+            }
+            if (cin != null) {
+                cin.close();
+            }
+            if (access != null) {
+                access.close();
+            }
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
         }
     }
 
+    /**
+     * Create deep copy of given source object without serialization. Objects are copied using a
+     * field copy plan per class type that is created on first use, primitive fields are copied
+     * directly, and instances are allocated without running constructors. Arrays are copied
+     * element by element, collections and maps are refilled with copied elements to keep their
+     * hash structures intact, immutable values are shared, and cycles as well as shared references
+     * are preserved using an identity map. In contrast to {@link #clone(Object)} the source object
+     * does not need to be serializable and transient fields are copied as well.
+     *
+     * @param   <Type>  object type.
+     * @param   object  source object.
+     *
+     * @return  copied object.
+     */
+    @SuppressWarnings("unchecked")
+    public static <Type> Type copy(Type object) {
+        return (Type) new Copier().copy(object);
+    }
+
     /**
      * Clone object output stream.
      */
@@ -74,6 +188,13 @@ public abstract class CloneHelper {
             this.queue = queue;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        protected void writeClassDescriptor(ObjectStreamClass desc) {
+            // class descriptor is resolved from annotated class on input.
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -113,6 +234,17 @@ public abstract class CloneHelper {
             this.queue = queue;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        protected ObjectStreamClass readClassDescriptor() throws IOException {
+            Class<?> clazz = this.queue.peek();
+            if (clazz == null) {
+                throw new InvalidClassException("missing class descriptor");
+            }
+            return ObjectStreamClass.lookupAny(clazz);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -133,4 +265,570 @@ public abstract class CloneHelper {
             return this.queue.poll();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Serialization round trip result providing the cloned object, the serialized size, and the
+     * round trip time.
+     *
+     * @param  <Type>  object type.
+     */
+    public static final class Trip<Type> {
+
+        /**
+         * Stream buffer size.
+         */
+        private static final int SIZE = 65536;
+
+        /**
+         * Cloned object.
+         */
+        private final Type value;
+
+        /**
+         * Serialized size in bytes (excluding class descriptors).
+         */
+        private final long size;
+
+        /**
+         * Round trip time in nano seconds.
+         */
+        private final long time;
+
+        /**
+         * Create serialization round trip result with given cloned object, serialized size, and
+         * round trip time.
+         *
+         * @param  value  cloned object.
+         * @param  size   serialized size in bytes.
+         * @param  time   round trip time in nano seconds.
+         */
+        private Trip(Type value, long size, long time) {
+            this.value = value;
+            this.size = size;
+            this.time = time;
+        }
+
+        /**
+         * Return cloned object.
+         *
+         * @return  cloned object.
+         */
+        public Type value() {
+            return this.value;
+        }
+
+        /**
+         * Return serialized size in bytes. The size excludes the class descriptors, since these are
+         * not written to the stream, and thus is smaller than the size of the same object written
+         * by a plain object output stream.
+         *
+         * @return  serialized size in bytes (excluding class descriptors).
+         */
+        public long size() {
+            return this.size;
+        }
+
+        /**
+         * Return round trip time in nano seconds.
+         *
+         * @return  round trip time in nano seconds.
+         */
+        public long time() {
+            return this.time;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public String toString() {
+            return "round trip [size=" + this.size + ", time=" + TimeUnit.NANOSECONDS.toMillis(this.time) + "ms]";
+        }
+    }
+
+    /**
+     * Input stream reading file content from consecutive read-only memory mappings of the file.
+     * Closing the stream drops the reference to the actual memory mapping, so that the mapping can
+     * be released and the file can be deleted.
+     */
+    static final class Mapped extends InputStream {
+
+        /**
+         * Default maximum size of a single memory mapping.
+         */
+        private static final long LIMIT = 1L << 28;
+
+        /**
+         * File channel to map.
+         */
+        private final FileChannel channel;
+
+        /**
+         * File size.
+         */
+        private final long size;
+
+        /**
+         * Maximum size of a single memory mapping.
+         */
+        private final long limit;
+
+        /**
+         * File position of actual memory mapping.
+         */
+        private long position;
+
+        /**
+         * Actual memory mapping ({@code null} if closed).
+         */
+        private MappedByteBuffer buffer;
+
+        /**
+         * Create memory mapped input stream for given file channel and given file size using the
+         * default maximum size of a single memory mapping.
+         *
+         * @param   channel  file channel.
+         * @param   size     file size.
+         *
+         * @throws  IOException  if memory mapping of file failed.
+         */
+        private Mapped(FileChannel channel, long size) throws IOException {
+            this(channel, size, LIMIT);
+        }
+
+        /**
+         * Create memory mapped input stream for given file channel, given file size, and given
+         * maximum size of a single memory mapping.
+         *
+         * @param   channel  file channel.
+         * @param   size     file size.
+         * @param   limit    maximum size of a single memory mapping.
+         *
+         * @throws  IOException  if memory mapping of file failed.
+         */
+        Mapped(FileChannel channel, long size, long limit) throws IOException {
+            this.channel = channel;
+            this.size = size;
+            this.limit = limit;
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, limit));
+        }
+
+        /**
+         * Ensure that the actual memory mapping has remaining content, and map the next file
+         * segment if necessary.
+         *
+         * @return  whether content is remaining.
+         *
+         * @throws  IOException  if memory mapping of file failed.
+         */
+        private boolean remaining() throws IOException {
+            if (this.buffer == null) {
+                return false;
+            } else if (this.buffer.hasRemaining()) {
+                return true;
+            }
+            this.position += this.buffer.capacity();
+            if (this.position >= this.size) {
+                return false;
+            }
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position,
+                    Math.min(this.size - this.position, this.limit));
+            return this.buffer.hasRemaining();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int read() throws IOException {
+            return this.remaining() ? (this.buffer.get() & 0xff) : -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            } else if (!this.remaining()) {
+                return -1;
+            }
+            int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int available() {
+            return (this.buffer != null) ? this.buffer.remaining() : 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void close() {
+            this.buffer = null;
+        }
+    }
+
+    /**
+     * Growable serialization buffer that provides its content as input stream without copying
+     * the backing array.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        /**
+         * Initial buffer size.
+         */
+        private static final int SIZE = 4096;
+
+        /**
+         * Maximum buffer size retained for reuse.
+         */
+        private static final int LIMIT = 1 << 20;
+
+        /**
+         * Flag whether buffer is in use (required for nested round trips).
+         */
+        private boolean used;
+
+        /**
+         * Create serialization buffer with initial buffer size.
+         */
+        private Buffer() {
+            super(SIZE);
+        }
+
+        /**
+         * Acquire serialization buffer of actual thread, or a new serialization buffer if the
+         * buffer of the actual thread is already in use.
+         *
+         * @return  serialization buffer.
+         */
+        public static Buffer acquire() {
+            Buffer buffer = BUFFER.get();
+            if ((buffer == null) || buffer.used) {
+                buffer = new Buffer();
+                if (BUFFER.get() == null) {
+                    BUFFER.set(buffer);
+                }
+            }
+            buffer.used = true;
+            buffer.reset();
+            return buffer;
+        }
+
+        /**
+         * Release serialization buffer for reuse. Buffers exceeding the maximum buffer size are
+         * dropped to not retain memory of large round trips.
+         */
+        public void release() {
+            this.used = false;
+            this.reset();
+            if ((this.buf.length > LIMIT) && (BUFFER.get() == this)) {
+                BUFFER.remove();
+            }
+        }
+
+        /**
+         * Create input stream reading the actual buffer content from the backing array.
+         *
+         * @return  input stream.
+         */
+        public InputStream input() {
+            return new ByteArrayInputStream(this.buf, 0, this.count);
+        }
+    }
+
+    /**
+     * Deep copy engine remembering copied objects by identity.
+     */
+    private static final class Copier {
+
+        /**
+         * Immutable class types that are shared instead of copied.
+         */
+        private static final Set<Class<?>> IMMUTABLES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+                    String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class,
+                    Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class, Class.class));
+
+        /**
+         * Standard collection and map class types without state beside their elements, that are
+         * copied by refilling a new instance.
+         */
+        private static final Set<Class<?>> REFILLS = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+                    ArrayList.class, LinkedList.class, ArrayDeque.class, HashSet.class, LinkedHashSet.class,
+                    HashMap.class, Hashtable.class, IdentityHashMap.class, WeakHashMap.class, ConcurrentHashMap.class));
+
+        /**
+         * Mapping of source objects to copied objects by identity.
+         */
+        private final Map<Object, Object> copies = new IdentityHashMap<Object, Object>();
+
+        /**
+         * Create deep copy of given source object.
+         *
+         * @param   source  source object (may be null).
+         *
+         * @return  copied object.
+         */
+        public Object copy(Object source) {
+            if (source == null) {
+                return null;
+            }
+            Class<?> type = source.getClass();
+            if (IMMUTABLES.contains(type) || type.isEnum() || (source instanceof Enum<?>)) {
+                return source;
+            }
+            Object target = this.copies.get(source);
+            if (target != null) {
+                return target;
+            } else if (type.isArray()) {
+                return this.array(source, type);
+            } else if ((source instanceof Collection<?>) || (source instanceof Map<?, ?>)) {
+                Object container = this.container(source, type);
+                if (container != null) {
+                    return container;
+                }
+            }
+            target = AccessHelper.Objects.instantiate(type, AccessHelper.Objects.Strategy.ALLOCATE);
+            this.copies.put(source, target);
+            Plan.resolve(type).copy(this, source, target);
+            if (target instanceof Map<?, ?>) {
+                Copier.rehash((Map<?, ?>) target);
+            }
+            return target;
+        }
+
+        /**
+         * Create deep copy of given source array of given array class type.
+         *
+         * @param   source  source array.
+         * @param   type    array class type.
+         *
+         * @return  copied array.
+         */
+        private Object array(Object source, Class<?> type) {
+            int length = Array.getLength(source);
+            Object target = Array.newInstance(type.getComponentType(), length);
+            this.copies.put(source, target);
+            if (type.getComponentType().isPrimitive()) {
+                System.arraycopy(source, 0, target, 0, length);
+                return target;
+            }
+            Object[] sarray = (Object[]) source, tarray = (Object[]) target;
+            for (int index = 0; index < length; index++) {
+                tarray[index] = this.copy(sarray[index]);
+            }
+            return target;
+        }
+
+        /**
+         * Create deep copy of given source collection or map of given class type by refilling a
+         * new instance with copied elements. Refilling is only used for the exact standard class
+         * types, that do not carry any state beside their elements, as well as for tree maps, tree
+         * sets, and priority queues, that are created with a copy of their comparator. For all
+         * other class types, including subclasses of standard class types, {@code null} is
+         * returned and the source is copied via field copy plan.
+         *
+         * @param   source  source collection or map.
+         * @param   type    collection or map class type.
+         *
+         * @return  copied collection or map ({@code null} if not supported).
+         */
+        @SuppressWarnings("unchecked")
+        private Object container(Object source, Class<?> type) {
+            Object target = null;
+            if (REFILLS.contains(type)) {
+                target = AccessHelper.Objects.instantiate(type, AccessHelper.Objects.Strategy.CONSTRUCTOR,
+                        AccessHelper.Failure.Mode.RETURN_NULL);
+            } else if (type == TreeMap.class) {
+                target = new TreeMap<Object, Object>((Comparator<Object>) this.copy(
+                            ((TreeMap<?, ?>) source).comparator()));
+            } else if (type == TreeSet.class) {
+                target = new TreeSet<Object>((Comparator<Object>) this.copy(((TreeSet<?>) source).comparator()));
+            } else if (type == PriorityQueue.class) {
+                target = new PriorityQueue<Object>(Math.max(1, ((PriorityQueue<?>) source).size()),
+                        (Comparator<Object>) this.copy(((PriorityQueue<?>) source).comparator()));
+            } else if (type == PriorityBlockingQueue.class) {
+                target = new PriorityBlockingQueue<Object>(Math.max(1, ((PriorityBlockingQueue<?>) source).size()),
+                        (Comparator<Object>) this.copy(((PriorityBlockingQueue<?>) source).comparator()));
+            }
+            if (target == null) {
+                return null;
+            }
+            this.copies.put(source, target);
+            if (source instanceof Map<?, ?>) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) source).entrySet()) {
+                    ((Map<Object, Object>) target).put(this.copy(entry.getKey()), this.copy(entry.getValue()));
+                }
+                return target;
+            }
+            List<Object> elements = new ArrayList<Object>(((Collection<?>) source).size());
+            for (Object element : (Collection<?>) source) {
+                elements.add(this.copy(element));
+            }
+            ((Collection<Object>) target).addAll(elements);
+            return target;
+        }
+
+        /**
+         * Rehash given map copied via field copy plan, since the hash codes of the copied keys may
+         * differ from the hash codes remembered in the copied hash structure. The copied entries
+         * are put again in iteration order, so that the iteration order, e.g. the access order of
+         * linked hash maps, is kept. Sorted maps do not depend on hash codes and are kept as they
+         * are, as well as unmodifiable maps, whose backing maps are copied and rehashed on their
+         * own. Hash sets are covered by rehashing their backing maps.
+         *
+         * @param  target  copied map.
+         */
+        @SuppressWarnings("unchecked")
+        private static void rehash(Map<?, ?> target) {
+            if (target instanceof SortedMap<?, ?>) {
+                return;
+            }
+            Map<Object, Object> map = (Map<Object, Object>) target;
+            List<Object> keys = new ArrayList<Object>(map.size());
+            List<Object> values = new ArrayList<Object>(map.size());
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                keys.add(entry.getKey());
+                values.add(entry.getValue());
+            }
+            try {
+                map.clear();
+            } catch (UnsupportedOperationException except) {
+                return;
+            }
+            for (int index = 0; index < keys.size(); index++) {
+                map.put(keys.get(index), values.get(index));
+            }
+        }
+    }
+
+    /**
+     * Field copy plan of a class type consisting of all instance fields of the class type and its
+     * parent class types.
+     */
+    private static final class Plan {
+
+        /**
+         * Field copy kind for reference fields.
+         */
+        private static final int REFERENCE = 0;
+
+        /**
+         * Field copy kind for primitive fields.
+         */
+        private static final int PRIMITIVE = 1;
+
+        /**
+         * Cache of field copy plans.
+         */
+        private static final AccessHelper.Cache<Plan> CACHE = new AccessHelper.Cache<Plan>();
+
+        /**
+         * Lookup key of field copy plans.
+         */
+        private static final Object KEY = Plan.class;
+
+        /**
+         * Accessible instance fields of class type.
+         */
+        private final Field[] fields;
+
+        /**
+         * Field copy kinds of instance fields.
+         */
+        private final int[] kinds;
+
+        /**
+         * Create field copy plan for given class type.
+         *
+         * @param  type  class type.
+         */
+        private Plan(Class<?> type) {
+            List<Field> list = new ArrayList<Field>();
+            for (Class<?> atype = type; atype != null; atype = atype.getSuperclass()) {
+                for (Field field : atype.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        list.add(field);
+                    }
+                }
+            }
+            this.fields = list.toArray(new Field[list.size()]);
+            this.kinds = new int[this.fields.length];
+            for (int index = 0; index < this.fields.length; index++) {
+                this.kinds[index] = this.fields[index].getType().isPrimitive() ? PRIMITIVE : REFERENCE;
+            }
+        }
+
+        /**
+         * Resolve field copy plan for given class type.
+         *
+         * @param   type  class type.
+         *
+         * @return  field copy plan.
+         */
+        public static Plan resolve(Class<?> type) {
+            Reference<Plan> cached = CACHE.get(type, KEY);
+            Plan plan = (cached != null) ? cached.get() : null;
+            return (plan != null) ? plan : CACHE.put(type, KEY, new Plan(type));
+        }
+
+        /**
+         * Copy all instance fields from given source object to given target object using given
+         * deep copy engine for reference fields.
+         *
+         * @param  copier  deep copy engine.
+         * @param  source  source object.
+         * @param  target  target object.
+         */
+        public void copy(Copier copier, Object source, Object target) {
+            Field field = null;
+            try {
+                for (int index = 0; index < this.fields.length; index++) {
+                    field = this.fields[index];
+                    if (this.kinds[index] == REFERENCE) {
+                        field.set(target, copier.copy(field.get(source)));
+                    } else {
+                        Plan.primitive(field, source, target);
+                    }
+                }
+            } catch (IllegalAccessException except) {
+                throw AccessHelper.Failure.create(AccessHelper.Failure.Helper.message(target, field), except);
+            }
+        }
+
+        /**
+         * Copy primitive field value of given primitive field from given source object to given
+         * target object without boxing.
+         *
+         * @param   field   primitive field.
+         * @param   source  source object.
+         * @param   target  target object.
+         *
+         * @throws  IllegalAccessException  if field is not accessible.
+         */
+        private static void primitive(Field field, Object source, Object target) throws IllegalAccessException {
+            Class<?> type = field.getType();
+            if (type == int.class) {
+                field.setInt(target, field.getInt(source));
+            } else if (type == long.class) {
+                field.setLong(target, field.getLong(source));
+            } else if (type == boolean.class) {
+                field.setBoolean(target, field.getBoolean(source));
+            } else if (type == double.class) {
+                field.setDouble(target, field.getDouble(source));
+            } else if (type == float.class) {
+                field.setFloat(target, field.getFloat(source));
+            } else if (type == char.class) {
+                field.setChar(target, field.getChar(source));
+            } else if (type == byte.class) {
+                field.setByte(target, field.getByte(source));
+            } else {
+                field.setShort(target, field.getShort(source));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.jactors.junit.theory;
 
 import org.jactors.junit.Property;
+import org.jactors.junit.helper.AccessHelper;
 import org.junit.Ignore;
 import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
@@ -9,7 +10,9 @@ import org.junit.runner.RunWith;
 /**
  * Bean theory implementation that allows to check validity of bean properties based on naming
  * conventions for getter, setter, and field names. Properties can also be defined by annotating
- * template fields in the inherited theory using {@link Property}.
+ * template fields in the inherited theory using {@link Property}. Changed property values of other
+ * class types are created using their default constructor, unless the inherited theory overrides
+ * {@link #strategy()}.
  */
 @Ignore
 @RunWith(Theories.class)
@@ -24,6 +27,15 @@ public abstract class BeanTheory {
      */
     @Theory(nullsAccepted = false)
     public final void isBeanValid(Object target) throws Throwable {
-        new Property.Checker().check(target, this);
+        new Property.Checker(this.strategy()).check(target, this);
+    }
+
+    /**
+     * Return instantiation strategy used for creating changed property values of other class types.
+     *
+     * @return  instantiation strategy.
+     */
+    protected AccessHelper.Objects.Strategy strategy() {
+        return AccessHelper.Objects.Strategy.CONSTRUCTOR;
     }
 }
@@ -42,6 +42,13 @@ public abstract class ObjectTheory {
      */
     protected static final int CONSISTENCY_CHECKS = 5;
 
+    /**
+     * Flag whether serialization is checked by streaming through memory mapped files instead of
+     * heap buffers (set system property {@code org.jactors.junit.theory.streamed} for large
+     * values).
+     */
+    private static final boolean STREAMED = Boolean.getBoolean("org.jactors.junit.theory.streamed");
+
     /**
      * Number of rounds for consistency checks.
      */
@@ -290,7 +297,10 @@ public abstract class ObjectTheory {
      */
     @Theory(nullsAccepted = false)
     public final void isSerializable(Object x) throws IOException, ClassNotFoundException {
-        if (x instanceof Serializable) {
+        if ((x instanceof Serializable) && STREAMED) {
+            CloneHelper.Trip<Object> trip = CloneHelper.stream(x);
+            Assert.assertThat(trip.toString(), x.equals(trip.value()), CoreMatchers.is(true));
+        } else if (x instanceof Serializable) {
             Object copy = CloneHelper.clone(x);
             Assert.assertThat(x.equals(copy), CoreMatchers.is(true));
         }
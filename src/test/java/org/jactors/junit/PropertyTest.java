@@ -760,6 +760,36 @@ public final class PropertyTest implements EnumTest.Unknown {
         }
     }
 
+    /**
+     * Holder bean getter/setter test class with property class type without default constructor.
+     */
+    @SuppressWarnings("unused")
+    private static class Holder {
+
+        /**
+         * Primitive value.
+         */
+        private Primitive primitive;
+
+        /**
+         * Getter for primitive value.
+         *
+         * @return  primitive value.
+         */
+        public Primitive getPrimitive() {
+            return this.primitive;
+        }
+
+        /**
+         * Setter for primitive value.
+         *
+         * @param  primitive  primitive value.
+         */
+        public void setPrimitive(Primitive primitive) {
+            this.primitive = primitive;
+        }
+    }
+
     /**
      * Check property definition atom helper behavior.
      */
@@ -874,6 +904,31 @@ public final class PropertyTest implements EnumTest.Unknown {
         public void nullConfigValue() throws Throwable {
             new Property.Checker().check(new Boxed(null, null), null);
         }
+
+        /**
+         * Check property check failing for property class type without default constructor.
+         *
+         * @throws  Throwable  if test fails.
+         */
+        @Test(expected = AssertionError.class)
+        @Expect(
+            message = "unable to create value [type=org.jactors.junit.PropertyTest$Primitive",
+            matcher = Expect.Matcher.STARTS_WITH
+        )
+        public void noDefaultConstructorValue() throws Throwable {
+            new Property.Checker().check(new Holder(), null);
+        }
+
+        /**
+         * Check property check allocating value for property class type without default
+         * constructor.
+         *
+         * @throws  Throwable  if test fails.
+         */
+        @Test
+        public void noDefaultConstructorAllocatedValue() throws Throwable {
+            new Property.Checker(AccessHelper.Objects.Strategy.AUTO).check(new Holder(), null);
+        }
         // FIXME: add tests with other target objects! to for checking accessor failures ...
     }
 
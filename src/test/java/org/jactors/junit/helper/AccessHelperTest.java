@@ -4,17 +4,21 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -23,6 +27,10 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -36,6 +44,7 @@ import org.jactors.junit.theory.BeanTheory;
 import org.jactors.junit.theory.ObjectTheory;
 import org.junit.After;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.FixMethodOrder;
 import org.junit.Rule;
 import org.junit.Test;
@@ -55,6 +64,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses(
     {
         AccessHelperTest.FailureBehavior.class,
+        AccessHelperTest.BackendBehavior.class,
         AccessHelperTest.FieldsBehavior.class,
         AccessHelperTest.MethodsBehavior.class,
         AccessHelperTest.ClassesBehavior.class,
@@ -506,6 +516,92 @@ public class AccessHelperTest implements EnumTest.Unknown {
         }
     }
 
+    /**
+     * Map key class type providing a static parse method.
+     */
+    protected static final class Key {
+
+        /**
+         * Key parts.
+         */
+        private final List<String> parts;
+
+        /**
+         * Create map key with given key parts.
+         *
+         * @param  parts  key parts.
+         */
+        private Key(List<String> parts) {
+            this.parts = parts;
+        }
+
+        /**
+         * Parse map key from given dash separated key parts.
+         *
+         * @param   text  dash separated key parts.
+         *
+         * @return  map key.
+         */
+        public static Key parse(CharSequence text) {
+            return new Key(Arrays.asList(text.toString().split("-")));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int hashCode() {
+            return this.parts.hashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean equals(Object obj) {
+            return (obj instanceof Key) && this.parts.equals(((Key) obj).parts);
+        }
+    }
+
+    /**
+     * Map key class type converted by a registered key converter using the name length as code.
+     */
+    protected static final class Code implements AccessHelper.Beans.Converter<Code> {
+
+        /**
+         * Key code.
+         */
+        private final int code;
+
+        /**
+         * Create map key with given key code.
+         *
+         * @param  code  key code.
+         */
+        public Code(int code) {
+            this.code = code;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Code convert(String name) {
+            return new Code(name.length());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int hashCode() {
+            return this.code;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean equals(Object obj) {
+            return (obj instanceof Code) && (this.code == ((Code) obj).code);
+        }
+    }
+
     /**
      * Check fields access helper behavior.
      */
@@ -623,6 +719,88 @@ public class AccessHelperTest implements EnumTest.Unknown {
             throw AccessHelper.Failure.create(AccessHelper.Failure.Type.TARGET, null);
         }
 
+        /**
+         * Test failure stack trace starts at failure source.
+         */
+        @Test
+        public void createStackTrace() {
+            for (AccessHelper.Failure failure
+                : new AccessHelper.Failure[] {
+                    AccessHelper.Failure.create(AccessHelper.Failure.Type.TARGET, "trace"),
+                    AccessHelper.Failure.create("trace", new IllegalArgumentException()),
+                    AccessHelper.Failure.create("trace",
+                        AccessHelper.Failure.probe(AccessHelper.Failure.Type.SUPPORT, null))
+                }) {
+                Assert.assertThat(failure.getStackTrace()[0].getMethodName(), CoreMatchers.is("createStackTrace"));
+            }
+        }
+
+        /**
+         * Test failure message is rendered lazily.
+         */
+        @Test
+        public void messageRenderedLazily() {
+            final AtomicInteger count = new AtomicInteger();
+            Object target = new Object() {
+                @Override
+                public String toString() {
+                    return "target-" + count.incrementAndGet();
+                }
+            };
+            AccessHelper.Failure failure = AccessHelper.Failure.create(
+                    AccessHelper.Failure.Helper.message(target, "name", null), new IllegalArgumentException());
+            Assert.assertThat(count.get(), CoreMatchers.is(0));
+            Assert.assertThat(failure.getMessage(), CoreMatchers.is("illegal argument failure [target=target-1, "
+                    + "name=name, value=null]"));
+            Assert.assertThat(failure.getMessage(), CoreMatchers.is("illegal argument failure [target=target-1, "
+                    + "name=name, value=null]"));
+        }
+
+        /**
+         * Test failure message rendering is bounded by element and character limits.
+         */
+        @Test
+        public void messageRenderedBounded() {
+            AccessHelper.Failure.Helper.limit(3, 20);
+            try {
+                Assert.assertThat(AccessHelper.Failure.create(AccessHelper.Failure.Type.ARGUMENT,
+                        AccessHelper.Failure.Helper.message(new byte[1 << 20], "name")).getMessage(),
+                    CoreMatchers.is("illegal argument failure [target=[0, 0, 0, ...], name=name]"));
+                Assert.assertThat(AccessHelper.Failure.create(AccessHelper.Failure.Type.ARGUMENT,
+                        AccessHelper.Failure.Helper.message(Arrays.asList("abcdefgh", "ijklmnop", "qrstuvwx"),
+                            "name")).getMessage(),
+                    CoreMatchers.is("illegal argument failure [target=[abcdefgh, ijklmnop,..., name=name]"));
+                Map<String, Integer> map = new LinkedHashMap<String, Integer>();
+                for (int index = 0; index < 10; index++) {
+                    map.put(String.valueOf(index), index);
+                }
+                Assert.assertThat(AccessHelper.Failure.create(AccessHelper.Failure.Type.ARGUMENT,
+                        AccessHelper.Failure.Helper.message(map, "name")).getMessage(),
+                    CoreMatchers.is("illegal argument failure [target={0=0, 1=1, 2=2, ...}, name=name]"));
+            } finally {
+                AccessHelper.Failure.Helper.limit(100, 4096);
+            }
+        }
+
+        /**
+         * Test failure message rendering limit failure with negative limits.
+         */
+        @Test(expected = AccessHelper.Failure.class)
+        @Expect(message = "limits must not be negative [elements=-1, chars=0]")
+        public void messageLimitNegative() {
+            AccessHelper.Failure.Helper.limit(-1, 0);
+        }
+
+        /**
+         * Test lightweight failure without stack trace.
+         */
+        @Test
+        public void probeStackTrace() {
+            AccessHelper.Failure failure = AccessHelper.Failure.probe(AccessHelper.Failure.Type.ARGUMENT, "probe");
+            Assert.assertThat(failure.getMessage(), CoreMatchers.is("probe"));
+            Assert.assertThat(failure.getStackTrace().length, CoreMatchers.is(0));
+        }
+
         /**
          * Test failure output with security exception.
          */
@@ -781,6 +959,230 @@ public class AccessHelperTest implements EnumTest.Unknown {
         }
     }
 
+    /**
+     * Check member access backend behavior.
+     */
+    @FixMethodOrder(MethodSorters.JVM)
+    @RunWith(BlockJUnit4ClassRunner.class)
+    public static final class BackendBehavior {
+
+        /**
+         * Backend installed before test.
+         */
+        private final AccessHelper.Backend backend = AccessHelper.Backend.actual();
+
+        /**
+         * Restore backend installed before test.
+         */
+        @After
+        public void after() {
+            AccessHelper.Backend.install(this.backend);
+        }
+
+        /**
+         * Test type providing variable arity methods.
+         */
+        public static final class Joiner {
+
+            /**
+             * Join given parts.
+             *
+             * @param   parts  parts to join.
+             *
+             * @return  joined parts.
+             */
+            public String join(String... parts) {
+                return Arrays.toString(parts);
+            }
+
+            /**
+             * Join given parts prefixed by given prefix.
+             *
+             * @param   prefix  joined parts prefix.
+             * @param   parts   parts to join.
+             *
+             * @return  joined parts.
+             */
+            public String join(String prefix, String... parts) {
+                return prefix + Arrays.toString(parts);
+            }
+
+            /**
+             * Join given parts prefixed by given prefix and given count.
+             *
+             * @param   prefix  joined parts prefix.
+             * @param   count   joined parts count.
+             * @param   parts   parts to join.
+             *
+             * @return  joined parts.
+             */
+            public static String join(String prefix, int count, String... parts) {
+                return prefix + count + Arrays.toString(parts);
+            }
+        }
+
+        /**
+         * Test default backend using method handles if available.
+         */
+        @Test
+        public void installDefault() {
+            AccessHelper.Backend.install(AccessHelper.Backend.REFLECT);
+            Assert.assertThat(AccessHelper.Backend.install(null), CoreMatchers.is(AccessHelper.Backend.REFLECT));
+            Assert.assertThat(AccessHelper.Backend.actual(), CoreMatchers.not(AccessHelper.Backend.REFLECT));
+            Assert.assertThat(AccessHelper.Backend.actual().getClass().getSimpleName(),
+                CoreMatchers.is("HandleBackend"));
+        }
+
+        /**
+         * Test field and method access using all backends.
+         */
+        @Test
+        public void accessMembers() {
+            for (AccessHelper.Backend backend
+                : new AccessHelper.Backend[] { AccessHelper.Backend.REFLECT, this.backend }) {
+                AccessHelper.Backend.install(backend);
+                Base base = new Base(1, 2);
+                Assert.assertThat(AccessHelper.Fields.<Long>get(base, FIELD_VALUE), CoreMatchers.is(1L));
+                Assert.assertThat(AccessHelper.Fields.set(base, FIELD_VALUE, 3L), CoreMatchers.is(1L));
+                Assert.assertThat(AccessHelper.Fields.set(base, "integer", 4), CoreMatchers.is(2));
+                Assert.assertThat(AccessHelper.Methods.<Long>invoke(base, GETTER_VALUE), CoreMatchers.is(3L));
+                Assert.assertThat(AccessHelper.Methods.invoke(base, SETTER_VALUE, 5L), CoreMatchers.nullValue());
+                Assert.assertThat(base.value(), CoreMatchers.is(5L));
+                Assert.assertThat(AccessHelper.Methods.<String>invoke(null,
+                        AccessHelper.Methods.resolve(String.class, "valueOf", int.class), 6), CoreMatchers.is("6"));
+                Assert.assertThat(AccessHelper.Fields.<Long>get(Long.class, "MAX_VALUE"),
+                    CoreMatchers.is(Long.MAX_VALUE));
+            }
+        }
+
+        /**
+         * Test variable arity method invocation with argument arrays using all backends.
+         */
+        @Test
+        public void invokeVarArgs() {
+            for (AccessHelper.Backend backend
+                : new AccessHelper.Backend[] { AccessHelper.Backend.REFLECT, this.backend }) {
+                AccessHelper.Backend.install(backend);
+                Joiner joiner = new Joiner();
+                Assert.assertThat(AccessHelper.Methods.<String>invoke(joiner, "join", new Class<?>[] { String[].class },
+                        (Object) new String[] { "a", "b" }), CoreMatchers.is("[a, b]"));
+                Assert.assertThat(AccessHelper.Methods.<String>invoke(joiner, "join",
+                        new Class<?>[] { String.class, String[].class }, "x", new String[] { "a" }),
+                    CoreMatchers.is("x[a]"));
+                Assert.assertThat(AccessHelper.Methods.<String>invoke(null,
+                        AccessHelper.Methods.resolve(String.class, "format", String.class, Object[].class), "%s-%s",
+                        new Object[] { "a", "b" }), CoreMatchers.is("a-b"));
+            }
+        }
+
+        /**
+         * Test fixed arity method invocation using all backends.
+         */
+        @Test
+        public void invokeFixedArity() {
+            for (AccessHelper.Backend backend
+                : new AccessHelper.Backend[] { AccessHelper.Backend.REFLECT, this.backend }) {
+                AccessHelper.Backend.install(backend);
+                Base base = new Base(1, 2);
+                Assert.assertThat(AccessHelper.Methods.<Long>invoke0(base, GETTER_VALUE), CoreMatchers.is(1L));
+                Assert.assertThat(AccessHelper.Methods.invoke1(base, SETTER_VALUE, 5L), CoreMatchers.nullValue());
+                Assert.assertThat(AccessHelper.Methods.invoke1(base, SETTER_VALUE, 6), CoreMatchers.nullValue());
+                Assert.assertThat(base.value(), CoreMatchers.is(6L));
+                Assert.assertThat(AccessHelper.Methods.<String>invoke2("abc",
+                        AccessHelper.Methods.resolve(String.class, "substring", int.class, int.class), 1, 2),
+                    CoreMatchers.is("b"));
+                Assert.assertThat(AccessHelper.Methods.<String>invoke3(null,
+                        AccessHelper.Methods.resolve(String.class, "valueOf", char[].class, int.class, int.class),
+                        new char[] { 'a', 'b', 'c' }, 1, 2), CoreMatchers.is("bc"));
+            }
+        }
+
+        /**
+         * Test fixed arity invocation of variable arity methods with argument arrays using all
+         * backends.
+         */
+        @Test
+        public void invokeFixedArityVarArgs() {
+            for (AccessHelper.Backend backend
+                : new AccessHelper.Backend[] { AccessHelper.Backend.REFLECT, this.backend }) {
+                AccessHelper.Backend.install(backend);
+                Joiner joiner = new Joiner();
+                Method join1 = AccessHelper.Methods.resolve(Joiner.class, "join", String[].class);
+                Method join2 = AccessHelper.Methods.resolve(Joiner.class, "join", String.class, String[].class);
+                Method join3 = AccessHelper.Methods.resolve(Joiner.class, "join", String.class, int.class,
+                        String[].class);
+                try {
+                    AccessHelper.Methods.invoke0(joiner, join1);
+                    Assert.fail();
+                } catch (AccessHelper.Failure failure) {
+                    Assert.assertThat(failure.getType(), CoreMatchers.is(AccessHelper.Failure.Type.ARGUMENT));
+                }
+                Assert.assertThat(AccessHelper.Methods.<String>invoke1(joiner, join1, new String[] { "a" }),
+                    CoreMatchers.is("[a]"));
+                Assert.assertThat(AccessHelper.Methods.<String>invoke2(joiner, join2, "x", new String[] { "a", "b" }),
+                    CoreMatchers.is("x[a, b]"));
+                Assert.assertThat(AccessHelper.Methods.<String>invoke3(null, join3, "x", 2, new String[] { "a", "b" }),
+                    CoreMatchers.is("x2[a, b]"));
+            }
+        }
+
+        /**
+         * Test fixed arity method invocation failure using all backends.
+         */
+        @Test
+        public void invokeFixedArityFailure() {
+            for (AccessHelper.Backend backend
+                : new AccessHelper.Backend[] { AccessHelper.Backend.REFLECT, this.backend }) {
+                AccessHelper.Backend.install(backend);
+                try {
+                    AccessHelper.Methods.invoke0(new Base(1, 2), SETTER_VALUE);
+                    Assert.fail();
+                } catch (AccessHelper.Failure failure) {
+                    Assert.assertThat(failure.getType(), CoreMatchers.is(AccessHelper.Failure.Type.ARGUMENT));
+                }
+                try {
+                    AccessHelper.Methods.invoke1(new Base(1, 2), SETTER_VALUE, Long.MIN_VALUE);
+                    Assert.fail();
+                } catch (AccessHelper.Failure failure) {
+                    Assert.assertThat(failure.getType(), CoreMatchers.is(AccessHelper.Failure.Type.TARGET));
+                }
+            }
+        }
+
+        /**
+         * Test method invocation with widening argument conversion using all backends.
+         */
+        @Test
+        public void invokeWidening() {
+            for (AccessHelper.Backend backend
+                : new AccessHelper.Backend[] { AccessHelper.Backend.REFLECT, this.backend }) {
+                AccessHelper.Backend.install(backend);
+                Base base = new Base(1, 2);
+                AccessHelper.Methods.invoke(base, SETTER_VALUE, 7);
+                Assert.assertThat(base.value(), CoreMatchers.is(7L));
+            }
+        }
+
+        /**
+         * Test method invocation failure raised by target method using all backends.
+         */
+        @Test
+        public void invokeFailureTarget() {
+            for (AccessHelper.Backend backend
+                : new AccessHelper.Backend[] { AccessHelper.Backend.REFLECT, this.backend }) {
+                AccessHelper.Backend.install(backend);
+                try {
+                    AccessHelper.Methods.invoke(new Base(1, 2), SETTER_VALUE, Long.MIN_VALUE);
+                    Assert.fail();
+                } catch (AccessHelper.Failure failure) {
+                    Assert.assertThat(failure.getType(), CoreMatchers.is(AccessHelper.Failure.Type.TARGET));
+                    Assert.assertThat(failure.getTarget(Throwable.class),
+                        CoreMatchers.instanceOf(IllegalArgumentException.class));
+                }
+            }
+        }
+    }
+
     /**
      * Check fields access helper behavior.
      */
@@ -842,6 +1244,49 @@ public class AccessHelperTest implements EnumTest.Unknown {
             Assert.assertThat(field, CoreMatchers.nullValue());
         }
 
+        /**
+         * Test cached field resolution for same field name returning same accessible field.
+         */
+        @Test
+        public void resolveCachedByName() {
+            Field field = AccessHelper.Fields.resolve(Child.class, "integer");
+            Assert.assertThat(field.getDeclaringClass(), CoreMatchers.<Class<?>>is(Base.class));
+            Assert.assertThat(AccessHelper.Fields.resolve(Child.class, "integer"), CoreMatchers.sameInstance(field));
+            field.setAccessible(false);
+            Assert.assertThat(AccessHelper.Fields.resolve(Child.class, "integer").isAccessible(), CoreMatchers.is(true));
+        }
+
+        /**
+         * Test cached field resolution for same field name after the cached field has been cleared.
+         */
+        @Test
+        public void resolveCachedClearedByName() {
+            Field field = AccessHelper.Fields.resolve(Child.class, "integer");
+            AccessHelper.Cache<Field> cache = AccessHelper.Fields.get(AccessHelper.Fields.class, "CACHE");
+            cache.get(Child.class, "integer").clear();
+            Assert.assertThat(AccessHelper.Fields.resolve(Child.class, "integer"), CoreMatchers.is(field));
+        }
+
+        /**
+         * Test cached field resolution for none existing field with changing failure modes.
+         */
+        @Test(expected = AccessHelper.Failure.class)
+        @Expect(message = "invalid field failure [type=" + NAME_BASE + ", name=y]")
+        public void resolveCachedFailureDefaultMode() {
+            Assert.assertThat(AccessHelper.Fields.resolve(Base.class, "y", AccessHelper.Failure.Mode.RETURN_NULL),
+                CoreMatchers.nullValue());
+            AccessHelper.Fields.resolve(Base.class, "y");
+        }
+
+        /**
+         * Test field resolution for {@code null} field name with return-null failure mode.
+         */
+        @Test
+        public void resolveFailureNullNameReturnNullMode() {
+            Field field = AccessHelper.Fields.resolve(Base.class, null, AccessHelper.Failure.Mode.RETURN_NULL);
+            Assert.assertThat(field, CoreMatchers.nullValue());
+        }
+
         /**
          * Test field resolution for none existing field with unknown failure mode.
          */
@@ -957,9 +1402,8 @@ public class AccessHelperTest implements EnumTest.Unknown {
          */
         @Test(expected = AccessHelper.Failure.class)
         @Expect(message = "illegal access failure [target=Base[value=0, integer=0], field=value]")
-        public void getFailureIllegalAccess() {
-            Field field = AccessHelper.Fields.resolve(Base.class, NAME_VALUE);
-            field.setAccessible(false);
+        public void getFailureIllegalAccess() throws Exception {
+            Field field = Base.class.getDeclaredField(NAME_VALUE);
             AccessHelper.Fields.get(new Base(0, 0), field);
         }
 
@@ -1249,6 +1693,28 @@ public class AccessHelperTest implements EnumTest.Unknown {
             Assert.assertThat(method, CoreMatchers.nullValue());
         }
 
+        /**
+         * Test cached method resolution for none existing method with changing failure modes.
+         */
+        @Test(expected = AccessHelper.Failure.class)
+        @Expect(message = "invalid method failure [type=" + NAME_BASE + ", name=y, types=[long]]")
+        public void resolveCachedFailureDefaultMode() {
+            Assert.assertThat(AccessHelper.Methods.resolve(Base.class, "y", AccessHelper.Failure.Mode.RETURN_NULL,
+                    long.class), CoreMatchers.nullValue());
+            AccessHelper.Methods.resolve(Base.class, "y", long.class);
+        }
+
+        /**
+         * Test method resolution choosing most specific return type in presence of bridge methods.
+         */
+        @Test
+        public void resolveBridgeMethod() {
+            Method method = AccessHelper.Methods.resolve(StringBuilder.class, "append", String.class);
+            Assert.assertThat(method.getReturnType(), CoreMatchers.<Class<?>>is(StringBuilder.class));
+            Assert.assertThat(AccessHelper.Methods.resolve(StringBuilder.class, "append", String.class),
+                CoreMatchers.sameInstance(method));
+        }
+
         /**
          * Test method resolution for none existing method with unknown failure mode.
          */
@@ -1328,6 +1794,20 @@ public class AccessHelperTest implements EnumTest.Unknown {
             Assert.assertThat(methods.size(), CoreMatchers.is(2));
         }
 
+        /**
+         * Test cached method resolution for all methods returns independent method lists.
+         */
+        @Test
+        public void resolveAllCached() {
+            List<Method> methods = //
+                AccessHelper.Methods.resolve(Child.class, NAME_VALUE, (Class<?>[]) null, null);
+            methods.clear();
+            Assert.assertThat(AccessHelper.Methods.resolve(Child.class, NAME_VALUE, (Class<?>[]) null, null).size(),
+                CoreMatchers.is(4));
+            Assert.assertThat(AccessHelper.Methods.resolve(Child.class, NAME_VALUE, new Class<?>[] {}, null).size(),
+                CoreMatchers.is(2));
+        }
+
         /**
          * Test successful method invocation by method name.
          */
@@ -1478,6 +1958,98 @@ public class AccessHelperTest implements EnumTest.Unknown {
             public void resolveFailureUnkownMode() {
                 AccessHelper.Classes.resolve("x", MODE_FAILURE_UNKNOWN);
             }
+
+            /**
+             * Test class assignability for identical, primitive, boxed, and reference class types.
+             */
+            @Test
+            public void assignable() {
+                Assert.assertTrue(AccessHelper.Classes.assignable(long.class, null));
+                Assert.assertTrue(AccessHelper.Classes.assignable(long.class, long.class));
+                Assert.assertTrue(AccessHelper.Classes.assignable(long.class, Long.class));
+                Assert.assertTrue(AccessHelper.Classes.assignable(Character.class, char.class));
+                Assert.assertTrue(AccessHelper.Classes.assignable(Base.class, Child.class));
+                Assert.assertFalse(AccessHelper.Classes.assignable(Child.class, Base.class));
+                Assert.assertFalse(AccessHelper.Classes.assignable(long.class, Integer.class));
+                Assert.assertFalse(AccessHelper.Classes.assignable(Object.class, int.class));
+                Assert.assertFalse(AccessHelper.Classes.assignable(int.class, Object.class));
+            }
+
+            /**
+             * Test generic type argument resolution following the generic type hierarchy.
+             */
+            @Test
+            public void resolveGenericArgument() {
+                Map<Long, List<String>> map = new HashMap<Long, List<String>>() {
+                        private static final long serialVersionUID = 1L;
+                    };
+                Assert.assertThat(AccessHelper.Classes.generic(Child.class, Iterable.class, 0),
+                    CoreMatchers.<Class<?>>equalTo(Base.class));
+                Assert.assertThat(AccessHelper.Classes.generic(map.getClass(), Map.class, 0),
+                    CoreMatchers.<Class<?>>equalTo(Long.class));
+                Assert.assertThat(AccessHelper.Classes.argument(map.getClass(), Map.class, 1),
+                    CoreMatchers.equalTo(((ParameterizedType) map.getClass().getGenericSuperclass())
+                        .getActualTypeArguments()[1]));
+                Assert.assertThat(AccessHelper.Classes.generic(HashMap.class, Map.class, 1),
+                    CoreMatchers.<Class<?>>equalTo(Object.class));
+                Assert.assertThat(AccessHelper.Classes.generic(Child.class, Map.class, 0), CoreMatchers.nullValue());
+            }
+
+            /**
+             * Test generic type argument resolution does not keep the generic type alive.
+             *
+             * @throws  Exception  if test fails.
+             */
+            @Test
+            public void resolveGenericArgumentReleased() throws Exception {
+                java.lang.reflect.Type type = HashMap.class.getDeclaredField("entrySet").getGenericType();
+                Assert.assertThat(AccessHelper.Classes.generic(type, Set.class, 0),
+                    CoreMatchers.<Class<?>>equalTo(Map.Entry.class));
+                Reference<java.lang.reflect.Type> ref = new WeakReference<java.lang.reflect.Type>(type);
+                type = null;
+                System.gc();
+                Assert.assertThat(ref.get(), CoreMatchers.nullValue());
+            }
+
+            /**
+             * Test class resolution caching class types and failed lookups per class loader.
+             */
+            @Test
+            public void resolveCached() {
+                final List<String> names = new ArrayList<String>();
+                ClassLoader loader = new ClassLoader(AccessHelperTest.class.getClassLoader()) {
+                        @Override
+                        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                            names.add(name);
+                            return super.loadClass(name, resolve);
+                        }
+                    };
+                for (int count = 0; count < 3; count++) {
+                    Assert.assertThat(AccessHelper.Classes.resolve(loader, NAME_BASE),
+                        CoreMatchers.<Class<?>>equalTo(Base.class));
+                    Assert.assertThat(AccessHelper.Classes.resolve(loader, "x", AccessHelper.Failure.Mode.RETURN_NULL),
+                        CoreMatchers.nullValue());
+                }
+                Assert.assertThat(names, CoreMatchers.equalTo(Arrays.asList(NAME_BASE, "x")));
+            }
+
+            /**
+             * Test class resolution failure for cached failed lookup with default failure mode.
+             */
+            @Test
+            public void resolveCachedFailure() {
+                ClassLoader loader = new ClassLoader(AccessHelperTest.class.getClassLoader()) {
+                    };
+                AccessHelper.Classes.resolve(loader, "x", AccessHelper.Failure.Mode.RETURN_NULL);
+                try {
+                    AccessHelper.Classes.resolve(loader, "x");
+                    Assert.fail();
+                } catch (AccessHelper.Failure failure) {
+                    Assert.assertThat(failure.getMessage(), CoreMatchers.equalTo("invalid class failure [name=x]"));
+                    Assert.assertThat(failure.getCause(), CoreMatchers.instanceOf(ClassNotFoundException.class));
+                    Assert.assertThat(failure.getCause().getMessage(), CoreMatchers.equalTo("x"));
+                }
+            }
         }
 
         /**
@@ -1698,6 +2270,18 @@ public class AccessHelperTest implements EnumTest.Unknown {
                 Assert.assertThat(factory, CoreMatchers.nullValue());
             }
 
+            /**
+             * Test cached constructor resolution for none existing constructor with changing
+             * failure modes.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(message = "invalid method failure [type=" + NAME_BASE + ", types=[int]]")
+            public void resolveCachedFailureDefaultMode() {
+                Assert.assertThat(AccessHelper.Objects.resolve(Base.class, AccessHelper.Failure.Mode.RETURN_NULL,
+                        int.class), CoreMatchers.nullValue());
+                AccessHelper.Objects.resolve(Base.class, int.class);
+            }
+
             /**
              * Test class resolution for none existing class with unknown failure mode.
              */
@@ -1815,6 +2399,87 @@ public class AccessHelperTest implements EnumTest.Unknown {
                 AccessHelper.Objects.create(AccessHelper.Failure.Type.class, null, new Object[] {});
             }
 
+            /**
+             * Test object copy using remembered copy constructor and remembered missing copy
+             * constructor.
+             */
+            @Test
+            public void copyRemembered() {
+                Child child = new Child(new Base(1L, 2));
+                for (int count = 0; count < 2; count++) {
+                    Child copy = AccessHelper.Objects.copy(child, AccessHelper.Failure.Mode.DEFAULT);
+                    Assert.assertThat(copy, CoreMatchers.not(CoreMatchers.sameInstance(child)));
+                    Assert.assertThat(copy, CoreMatchers.equalTo(child));
+                    Assert.assertThat(AccessHelper.Objects.copy(new Object(),
+                            AccessHelper.Failure.Mode.RETURN_NULL), CoreMatchers.nullValue());
+                }
+            }
+
+            /**
+             * Test object copy using copy constructor failing for some target objects only.
+             */
+            @Test
+            public void copyRememberedOnlyMissing() {
+                Assert.assertThat(AccessHelper.Objects.copy(new Trimmed((String) null),
+                        AccessHelper.Failure.Mode.RETURN_NULL), CoreMatchers.nullValue());
+                Trimmed copy = AccessHelper.Objects.copy(new Trimmed(" ok "), AccessHelper.Failure.Mode.DEFAULT);
+                Assert.assertThat(copy.value, CoreMatchers.is("ok"));
+            }
+
+            /**
+             * Test type with copy constructor failing for {@code null} values.
+             */
+            private static final class Trimmed {
+
+                /**
+                 * Trimmed value.
+                 */
+                private final String value;
+
+                /**
+                 * Create test object with given value.
+                 *
+                 * @param  value  value (may be null).
+                 */
+                private Trimmed(String value) {
+                    this.value = value;
+                }
+
+                /**
+                 * Create test object copying and trimming value of given test object.
+                 *
+                 * @param  trimmed  test object.
+                 */
+                private Trimmed(Trimmed trimmed) {
+                    this.value = trimmed.value.trim();
+                }
+            }
+
+            /**
+             * Test object instantiation strategies for class type without default constructor.
+             */
+            @Test
+            public void instantiateStrategies() {
+                Base base = AccessHelper.Objects.instantiate(Base.class, AccessHelper.Objects.Strategy.ALLOCATE);
+                Assert.assertThat(base.getInteger(), CoreMatchers.is(0));
+                Assert.assertThat(AccessHelper.Objects.instantiate(Base.class, AccessHelper.Objects.Strategy.AUTO),
+                    CoreMatchers.instanceOf(Base.class));
+                Assert.assertThat(AccessHelper.Objects.instantiate(Base.class,
+                        AccessHelper.Objects.Strategy.CONSTRUCTOR, AccessHelper.Failure.Mode.RETURN_NULL),
+                    CoreMatchers.nullValue());
+                Assert.assertThat(AccessHelper.Objects.instantiate(ArrayList.class,
+                        AccessHelper.Objects.Strategy.AUTO).size(), CoreMatchers.is(0));
+            }
+
+            /**
+             * Test object instantiation failure by allocation of abstract class type.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(message = "allocation not supported [" + NAME_HELPER + "]")
+            public void instantiateAllocateAbstract() {
+                AccessHelper.Objects.instantiate(AccessHelper.class, AccessHelper.Objects.Strategy.ALLOCATE);
+            }
+
             /**
              * Test object creation by class type on abstract class.
              */
@@ -2262,6 +2927,22 @@ public class AccessHelperTest implements EnumTest.Unknown {
             }
         }
 
+        /**
+         * Test shift enumeration.
+         */
+        private enum Shift {
+
+            /**
+             * Early shift.
+             */
+            EARLY,
+
+            /**
+             * Late shift.
+             */
+            LATE;
+        }
+
         /**
          * Test failure enumeration resolution with default failure mode.
          */
@@ -2415,6 +3096,19 @@ public class AccessHelperTest implements EnumTest.Unknown {
             Assert.assertThat(Arrays.asList(Day.values()), CoreMatchers.hasItem(actual));
         }
 
+        /**
+         * Test enumeration key conversion after enumeration update replacing converted value.
+         */
+        @Test
+        public void updateShiftConverted() {
+            Assert.assertThat(AccessHelper.Beans.Converters.convert(Shift.class, "EARLY"),
+                CoreMatchers.is(Shift.EARLY));
+            Shift early = AccessHelper.Enums.create(Shift.class, "EARLY", 0, null);
+            AccessHelper.Enums.update(Shift.class, new Shift[] {}, early);
+            Assert.assertThat(AccessHelper.Beans.Converters.convert(Shift.class, "EARLY"),
+                CoreMatchers.sameInstance(early));
+        }
+
         /**
          * Test enumeration update with new enumeration values deleting all other values.
          */
@@ -2640,6 +3334,465 @@ public class AccessHelperTest implements EnumTest.Unknown {
             public void writeWithEmptyName() {
                 AccessHelper.Beans.write(new Base(0, 0), "", null);
             }
+
+            /**
+             * Test compile property path failure with null path.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(message = "path must not be null or empty [null]")
+            public void compileWithNullPath() {
+                AccessHelper.Beans.PropertyPath.compile(null);
+            }
+
+            /**
+             * Test compiled property paths are interned.
+             */
+            @Test
+            public void compileInterned() {
+                Assert.assertThat(AccessHelper.Beans.PropertyPath.compile("base.value"),
+                    CoreMatchers.sameInstance(AccessHelper.Beans.PropertyPath.compile("base.value")));
+            }
+
+            /**
+             * Test read and write of compiled property path on multiple targets.
+             */
+            @Test
+            public void compileReadWrite() {
+                AccessHelper.Beans.PropertyPath path = AccessHelper.Beans.PropertyPath.compile("base.value");
+                for (long value = 0; value < 3; value++) {
+                    Child child = new Child(new Base(value, 0));
+                    Assert.assertThat(path.<Long>write(child, value + 1), CoreMatchers.is(value));
+                    Assert.assertThat(path.<Long>read(child), CoreMatchers.is(value + 1));
+                }
+            }
+
+            /**
+             * Test write property failure with property path without property name.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(
+                message = "illegal argument failure [target=",
+                matcher = Expect.Matcher.STARTS_WITH,
+                cause = @Expect.Cause(type = AccessHelper.Failure.class, message = "path not writable [.]")
+            )
+            public void writeWithoutName() {
+                AccessHelper.Beans.write(new Base(0, 0), ".", null);
+            }
+
+            /**
+             * Test write property uses declared generic key type of empty maps along the path.
+             */
+            @Test
+            public void writeGenericMapKey() {
+                Map<String, Map<Long, String>> map = new HashMap<String, Map<Long, String>>() {
+                        private static final long serialVersionUID = 1L;
+                    };
+                map.put("a", new HashMap<Long, String>());
+                AccessHelper.Beans.write(map, "a.5", "x");
+                Assert.assertThat(map.get("a").get(5L), CoreMatchers.is("x"));
+                Assert.assertThat(AccessHelper.Beans.<String>read(map, "a.5"), CoreMatchers.is("x"));
+            }
+
+            /**
+             * Test indexed reads of all elements of sets, navigable sets, and deques.
+             */
+            @Test
+            public void readIndexedSequence() {
+                Set<Integer> set = new LinkedHashSet<Integer>();
+                TreeSet<Integer> tree = new TreeSet<Integer>();
+                ArrayDeque<Integer> deque = new ArrayDeque<Integer>();
+                for (int index = 0; index < 10000; index++) {
+                    set.add(index);
+                    tree.add(index);
+                    deque.add(index);
+                }
+                for (int index = 0; index < 10000; index++) {
+                    String path = String.valueOf(index);
+                    Assert.assertThat(AccessHelper.Beans.<Integer>read(set, path), CoreMatchers.is(index));
+                    Assert.assertThat(AccessHelper.Beans.<Integer>read(tree, path), CoreMatchers.is(index));
+                    Assert.assertThat(AccessHelper.Beans.<Integer>read(deque, path), CoreMatchers.is(index));
+                }
+                Assert.assertThat(AccessHelper.Beans.<Integer>read(set, "5"), CoreMatchers.is(5));
+            }
+
+            /**
+             * Test indexed reads of sets are consistent with modifications between reads.
+             */
+            @Test
+            public void readIndexedModified() {
+                Set<String> set = new LinkedHashSet<String>(Arrays.asList("a", "b", "c", "d"));
+                Assert.assertThat(AccessHelper.Beans.<String>read(set, "1"), CoreMatchers.is("b"));
+                set.remove("c");
+                Assert.assertThat(AccessHelper.Beans.<String>read(set, "2"), CoreMatchers.is("d"));
+                set.remove("a");
+                set.add("e");
+                Assert.assertThat(AccessHelper.Beans.<String>read(set, "2"), CoreMatchers.is("e"));
+                ArrayDeque<String> deque = new ArrayDeque<String>(Arrays.asList("a", "b", "c", "d"));
+                AccessHelper.Beans.write(deque, "2", null);
+                Assert.assertThat(deque, CoreMatchers.hasItems("a", "b", "d"));
+                Assert.assertThat(deque.size(), CoreMatchers.is(3));
+            }
+
+            /**
+             * Test indexed reads of key sets do not keep the backing map alive after the read.
+             */
+            @Test
+            public void readIndexedReleased() {
+                Map<String, String> map = new LinkedHashMap<String, String>();
+                map.put("a", "x");
+                map.put("b", "y");
+                Assert.assertThat(AccessHelper.Beans.<String>read(map.keySet(), "1"), CoreMatchers.is("b"));
+                Reference<Map<String, String>> ref = new WeakReference<Map<String, String>>(map);
+                map = null;
+                System.gc();
+                Assert.assertThat(ref.get(), CoreMatchers.nullValue());
+            }
+
+            /**
+             * Test indexed reads of sets growing after the iteration cursor is exhausted.
+             */
+            @Test
+            public void readIndexedGrown() {
+                List<Set<Integer>> sets = Arrays.<Set<Integer>>asList(new LinkedHashSet<Integer>(),
+                        new HashSet<Integer>());
+                for (Set<Integer> set : sets) {
+                    set.addAll(Arrays.asList(10, 20, 30));
+                    Assert.assertThat(AccessHelper.Beans.<Integer>read(set, "2"), CoreMatchers.notNullValue());
+                    set.add(40);
+                    Assert.assertThat(AccessHelper.Beans.<Integer>read(set, "3"), CoreMatchers.notNullValue());
+                    Assert.assertThat(new ArrayList<Integer>(set).get(3),
+                        CoreMatchers.is(AccessHelper.Beans.<Integer>read(set, "3")));
+                }
+            }
+
+            /**
+             * Test read and write elements of all primitive array types.
+             */
+            @Test
+            public void readWritePrimitiveArrays() {
+                Object[] arrays = new Object[] {
+                        new int[] { 1, 2 }, new long[] { 1L, 2L }, new double[] { 1d, 2d },
+                        new byte[] { 1, 2 }, new float[] { 1f, 2f }, new short[] { 1, 2 },
+                        new char[] { 'a', 'b' }, new boolean[] { false, true }
+                    };
+                for (Object array : arrays) {
+                    Object first = Array.get(array, 0);
+                    Object second = Array.get(array, 1);
+                    Assert.assertThat(AccessHelper.Beans.read(array, "1"), CoreMatchers.is(second));
+                    Assert.assertThat(AccessHelper.Beans.write(array, "0", second), CoreMatchers.is(first));
+                    Assert.assertThat(Array.get(array, 0), CoreMatchers.is(second));
+                }
+                Map<String, int[]> map = new HashMap<String, int[]>();
+                map.put("a", new int[] { 1, 2 });
+                Assert.assertThat(AccessHelper.Beans.<Integer>read(map, "a.1"), CoreMatchers.is(2));
+            }
+
+            /**
+             * Test typed read and write of primitive values in arrays and nested containers.
+             */
+            @Test
+            public void readWriteTyped() {
+                Map<String, Object> map = new HashMap<String, Object>();
+                map.put("ints", new int[] { 1, 2 });
+                map.put("longs", new long[] { 1L, 2L });
+                map.put("doubles", new double[] { 1d, 2d });
+                map.put("boxed", Arrays.asList(3, 4));
+                map.put("base", new Base(5L, 6));
+                AccessHelper.Beans.writeInt(map, "ints.0", 7);
+                AccessHelper.Beans.writeLong(map, "longs.0", 8L);
+                AccessHelper.Beans.writeDouble(map, "doubles.0", 9d);
+                Assert.assertThat(AccessHelper.Beans.readInt(map, "ints.0"), CoreMatchers.is(7));
+                Assert.assertThat(AccessHelper.Beans.readLong(map, "longs.0"), CoreMatchers.is(8L));
+                Assert.assertThat(AccessHelper.Beans.readDouble(map, "doubles.0"), CoreMatchers.is(9d));
+                Assert.assertThat(AccessHelper.Beans.readInt(map, "boxed.1"), CoreMatchers.is(4));
+                Assert.assertThat(AccessHelper.Beans.readLong(map, "base." + NAME_VALUE), CoreMatchers.is(5L));
+                AccessHelper.Beans.writeInt(map, "boxed.1", 10);
+                Assert.assertThat(AccessHelper.Beans.readInt(map, "boxed.1"), CoreMatchers.is(10));
+            }
+
+            /**
+             * Test typed read of primitive array with wrong element type fails.
+             */
+            @Test
+            @Expect(type = AccessHelper.Failure.class)
+            public void readTypedMismatch() {
+                AccessHelper.Beans.readInt(new long[] { 1L }, "0");
+            }
+
+            /**
+             * Test typed read of primitive values widening narrower primitive values.
+             */
+            @Test
+            public void readTypedWidened() {
+                Map<String, Object> map = new HashMap<String, Object>();
+                map.put("ints", new int[] { 1, 2 });
+                map.put("base", new Base(5L, 6));
+                map.put("chars", Arrays.asList('a', 'b'));
+                Assert.assertThat(AccessHelper.Beans.readLong(map, "base.integer"), CoreMatchers.is(6L));
+                Assert.assertThat(AccessHelper.Beans.readLong(map, "ints.1"), CoreMatchers.is(2L));
+                Assert.assertThat(AccessHelper.Beans.readDouble(map, "ints.1"), CoreMatchers.is(2d));
+                Assert.assertThat(AccessHelper.Beans.readDouble(map, "base." + NAME_VALUE), CoreMatchers.is(5d));
+                Assert.assertThat(AccessHelper.Beans.readInt(map, "chars.1"), CoreMatchers.is((int) 'b'));
+            }
+
+            /**
+             * Test typed read of {@code null} property value fails.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(
+                message = "illegal argument failure [target={a=null}, name=a]",
+                cause = @Expect.Cause(
+                    type = AccessHelper.Failure.class,
+                    message = "invalid primitive value [type=long, value=null]"
+                )
+            )
+            public void readTypedNull() {
+                AccessHelper.Beans.readLong(Collections.singletonMap("a", null), "a");
+            }
+
+            /**
+             * Test typed read of non-numeric property value fails.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(
+                message = "illegal argument failure [target={a=1}, name=a]",
+                cause = @Expect.Cause(
+                    type = AccessHelper.Failure.class,
+                    message = "invalid primitive value [type=double, value=1, class=java.lang.String]"
+                )
+            )
+            public void readTypedNonNumeric() {
+                AccessHelper.Beans.readDouble(Collections.singletonMap("a", "1"), "a");
+            }
+
+            /**
+             * Test lazy read of all property values matching wildcard path segments.
+             */
+            @Test
+            public void readAllWildcards() {
+                List<Map<String, Object>> orders = new ArrayList<Map<String, Object>>();
+                for (int count = 0; count < 100; count++) {
+                    Map<String, Object> order = new HashMap<String, Object>();
+                    Base[] lines = new Base[100];
+                    for (int index = 0; index < lines.length; index++) {
+                        lines[index] = new Base(index, count);
+                    }
+                    order.put("lines", lines);
+                    orders.add(order);
+                }
+                orders.add(null);
+                Map<String, Object> target = new HashMap<String, Object>();
+                target.put("orders", orders);
+                long sum = 0;
+                int count = 0;
+                for (Long value : AccessHelper.Beans.<Long>readAll(target, "orders[*].lines[*]." + NAME_VALUE)) {
+                    sum += value;
+                    count++;
+                }
+                Assert.assertThat(count, CoreMatchers.is(10000));
+                Assert.assertThat(sum, CoreMatchers.is(100L * 4950L));
+
+                Map<String, int[]> map = new HashMap<String, int[]>();
+                map.put("a", new int[] { 1, 2 });
+                map.put("b", new int[] { 3 });
+                Set<Integer> values = new HashSet<Integer>();
+                for (Integer value : AccessHelper.Beans.<Integer>readAll(map, "*.*")) {
+                    values.add(value);
+                }
+                Assert.assertThat(values, CoreMatchers.is((Set<Integer>) new HashSet<Integer>(Arrays.asList(1, 2, 3))));
+                Iterator<Object> iter = AccessHelper.Beans.readAll(map, "a.1").iterator();
+                Assert.assertThat(iter.next(), CoreMatchers.is((Object) 2));
+                Assert.assertThat(iter.hasNext(), CoreMatchers.is(false));
+            }
+
+            /**
+             * Test lazy read of wildcard path segment on bean fails.
+             */
+            @Test
+            @Expect(type = AccessHelper.Failure.class)
+            public void readAllWildcardBean() {
+                AccessHelper.Beans.readAll(new Base(1L, 2), "*").iterator().hasNext();
+            }
+
+            /**
+             * Test batch read and write of property paths with shared prefixes.
+             */
+            @Test
+            public void readWriteBatch() {
+                Map<String, Map<String, Object>> target = new HashMap<String, Map<String, Object>>();
+                Map<String, Object> address = new HashMap<String, Object>();
+                address.put("city", "Berlin");
+                address.put("zip", "10115");
+                address.put("base", new Base(1L, 2));
+                target.put("address", address);
+                String[] paths = new String[] {
+                        "address.city", "address.base.integer", "address.zip", "address.base." + NAME_VALUE,
+                        "address.city"
+                    };
+                Assert.assertThat(Arrays.asList(AccessHelper.Beans.readBatch(target, paths)),
+                    CoreMatchers.is(Arrays.<Object>asList("Berlin", 2, "10115", 1L, "Berlin")));
+                Assert.assertThat(AccessHelper.Beans.PropertyBatch.compile(paths).paths(),
+                    CoreMatchers.is(Arrays.asList(paths)));
+
+                Object[] before = AccessHelper.Beans.writeBatch(target,
+                        new String[] { "address.base." + NAME_VALUE, "address.base", "address.zip" },
+                        new Object[] { 5L, new Base(3L, 4), "10117" });
+                Assert.assertThat(before[0], CoreMatchers.is((Object) 3L));
+                Assert.assertThat(before[2], CoreMatchers.is((Object) "10115"));
+                Assert.assertThat(AccessHelper.Beans.<Long>read(target, "address.base." + NAME_VALUE),
+                    CoreMatchers.is(5L));
+                Assert.assertThat(AccessHelper.Beans.<String>read(target, "address.zip"), CoreMatchers.is("10117"));
+            }
+
+            /**
+             * Test batch write with values not matching property paths fails.
+             */
+            @Test
+            @Expect(
+                type = AccessHelper.Failure.class,
+                message = "values must match paths [paths=2, values=1]"
+            )
+            public void writeBatchMismatch() {
+                AccessHelper.Beans.writeBatch(new Base(1L, 2), new String[] { "a", "b" }, new Object[] { 1 });
+            }
+
+            /**
+             * Test map keys are converted using standard, resolved, and registered key converters.
+             */
+            @Test
+            public void readConvertedKeys() {
+                UUID uuid = UUID.randomUUID();
+                Map<UUID, String> uuids = new HashMap<UUID, String>();
+                uuids.put(uuid, "uuid");
+                Assert.assertThat(AccessHelper.Beans.<String>read(uuids, uuid.toString()), CoreMatchers.is("uuid"));
+
+                Map<Key, String> keys = new HashMap<Key, String>();
+                AccessHelper.Beans.write(keys, "(" + Key.class.getName() + "=a-b)", "parsed");
+                Assert.assertThat(keys.get(Key.parse("a-b")), CoreMatchers.is("parsed"));
+                Assert.assertThat(AccessHelper.Beans.Converters.lookup(Key.class),
+                    CoreMatchers.sameInstance(AccessHelper.Beans.Converters.lookup(Key.class)));
+
+                AccessHelper.Beans.Converters.register(Code.class, new Code(0));
+                Map<Code, String> codes = new HashMap<Code, String>();
+                codes.put(new Code(3), "code");
+                Assert.assertThat(AccessHelper.Beans.<String>read(codes, "(" + Code.class.getName() + "=abc)"),
+                    CoreMatchers.is("code"));
+            }
+
+            /**
+             * Test map keys of enumeration and java time class types are converted using cached
+             * key converters.
+             */
+            @Test
+            public void readConvertedConstantKeys() {
+                Map<TimeUnit, String> units = new HashMap<TimeUnit, String>();
+                units.put(TimeUnit.SECONDS, "seconds");
+                Assert.assertThat(AccessHelper.Beans.<String>read(units, "SECONDS"), CoreMatchers.is("seconds"));
+
+                Class<?> type = AccessHelper.Classes.resolve("java.time.LocalDate", //
+                        AccessHelper.Failure.Mode.RETURN_NULL);
+                Assume.assumeThat(type, CoreMatchers.notNullValue());
+                Map<Object, String> dates = new HashMap<Object, String>();
+                AccessHelper.Beans.write(dates, "(java.time.LocalDate=2020-01-02)", "date");
+                Object key = dates.keySet().iterator().next();
+                Assert.assertThat(key.getClass(), CoreMatchers.<Object>is(type));
+                Assert.assertThat(key.toString(), CoreMatchers.is("2020-01-02"));
+                Assert.assertThat(AccessHelper.Beans.Converters.lookup(type),
+                    CoreMatchers.sameInstance(AccessHelper.Beans.Converters.lookup(type)));
+            }
+
+            /**
+             * Test unknown enumeration key conversion fails.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(message = "unknown enum value [x]")
+            public void convertUnknownConstant() {
+                AccessHelper.Beans.Converters.convert(TimeUnit.class, "x");
+            }
+
+            /**
+             * Test collection elements are looked up by decimal numbers while map keys are decoded.
+             */
+            @Test
+            public void readDecimalElements() {
+                Set<Long> set = new LinkedHashSet<Long>(Arrays.asList(8L, 10L));
+                Assert.assertThat(AccessHelper.Beans.<Long>read(set, "Long=010"), CoreMatchers.is(10L));
+                Map<Long, String> map = new HashMap<Long, String>();
+                map.put(8L, "octal");
+                map.put(10L, "decimal");
+                Assert.assertThat(AccessHelper.Beans.<String>read(map, "Long=010"), CoreMatchers.is("octal"));
+            }
+
+            /**
+             * Test indexed property field, getter, and setter lookups are stable.
+             */
+            @Test
+            public void indexLookups() {
+                for (int count = 0; count < 2; count++) {
+                    Assert.assertThat(AccessHelper.Beans.field(Base.class, null, NAME_VALUE,
+                            AccessHelper.Beans.Mode.AUTO), CoreMatchers.is(FIELD_VALUE));
+                    Assert.assertThat(AccessHelper.Beans.getter(Base.class, long.class, NAME_VALUE,
+                            AccessHelper.Beans.Mode.TYPED), CoreMatchers.is(GETTER_VALUE));
+                    Assert.assertThat(AccessHelper.Beans.setter(Base.class, long.class, "x",
+                            AccessHelper.Beans.Mode.AUTO), CoreMatchers.nullValue());
+                }
+            }
+
+            /**
+             * Test indexed property lookup failure is not remembered.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(message = "type must not be null")
+            public void indexLookupFailure() {
+                try {
+                    AccessHelper.Beans.getter(Base.class, null, NAME_VALUE, AccessHelper.Beans.Mode.KNOWN);
+                } catch (AccessHelper.Failure failure) {
+                    AccessHelper.Beans.getter(Base.class, null, NAME_VALUE, AccessHelper.Beans.Mode.KNOWN);
+                }
+            }
+
+            /**
+             * Test compile property path into path segments.
+             */
+            @Test
+            public void compileSegments() {
+                Assert.assertThat(AccessHelper.Beans.PropertyPath.compile(
+                        "a,(java.lang.Object=b.c)[x,y\\,z][w],t=u..v[]").segments(),
+                    CoreMatchers.is(Arrays.asList("a", "java.lang.Object=b.c", "x", "y\\,z", "w", "t=u", "v")));
+            }
+
+            /**
+             * Test compile long dotted property path without class name qualifiers in linear time.
+             */
+            @Test(timeout = 2000)
+            public void compileLongPath() {
+                List<String> segments = new ArrayList<String>();
+                StringBuilder builder = new StringBuilder();
+                for (int index = 0; index < 16000; index++) {
+                    segments.add("segment" + index);
+                    builder.append((index == 0) ? "" : ".").append("segment").append(index);
+                }
+                Assert.assertThat(AccessHelper.Beans.PropertyPath.compile(builder.toString()).segments(),
+                    CoreMatchers.is(segments));
+            }
+
+            /**
+             * Test compile property path failure with unexpected character.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(message = "unexpected character [path=a.)b, offset=2]")
+            public void compileWithUnexpectedCharacter() {
+                AccessHelper.Beans.PropertyPath.compile("a.)b");
+            }
+
+            /**
+             * Test compile property path failure with unclosed list.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(message = "unclosed list [path=a[b\\], offset=1]")
+            public void compileWithUnclosedList() {
+                AccessHelper.Beans.PropertyPath.compile("a[b\\]");
+            }
         }
 
         /**
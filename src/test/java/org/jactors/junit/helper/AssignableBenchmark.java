@@ -0,0 +1,239 @@
+package org.jactors.junit.helper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class assignability benchmark comparing the identity based class assignability check with the
+ * former name based check and with a memoizing check. The workload consists of the class type pairs
+ * checked by field and method resolution scan loops, i.e. field types and method parameter types
+ * against a set of typical argument types. All checks run the same pairs in separate loops, so that
+ * each loop calls a single check only. In addition the field and method resolution scan loops using
+ * the actual check are measured for the same class types. The benchmark is a plain main program,
+ * since the build provides no JMH and it is not meant to be run by the unit test suite:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.jactors.junit.helper.AssignableBenchmark
+ * </pre>
+ */
+public final class AssignableBenchmark {
+
+    /**
+     * Former primitive to boxed type mapping.
+     */
+    private static final Map<String, Class<?>> BOX_MAP = new HashMap<String, Class<?>>();
+
+    static {
+        for (Class<?>[] types : new Class<?>[][] {
+                { long.class, Long.class }, { int.class, Integer.class }, { short.class, Short.class },
+                { byte.class, Byte.class }, { double.class, Double.class }, { float.class, Float.class },
+                { boolean.class, Boolean.class }, { char.class, Character.class }, { void.class, Void.class }
+            }) {
+            BOX_MAP.put(types[0].getName(), types[1]);
+            BOX_MAP.put(types[1].getSimpleName(), types[0]);
+        }
+    }
+
+    /**
+     * Memoized class assignability results.
+     */
+    private static final ConcurrentMap<List<Class<?>>, Boolean> MEMO = //
+        new ConcurrentHashMap<List<Class<?>>, Boolean>();
+
+    /**
+     * Class types providing fields and methods for the scan loop workload.
+     */
+    private static final Class<?>[] OWNERS = new Class<?>[] {
+            String.class, ArrayList.class, HashMap.class, Integer.class, Thread.class,
+            AccessHelperTest.Base.class, AccessHelperTest.Child.class
+        };
+
+    /**
+     * Argument class types used for the scan loop workload.
+     */
+    private static final Class<?>[] ARGUMENTS = new Class<?>[] {
+            int.class, Integer.class, long.class, Long.class, String.class, Object.class,
+            List.class, ArrayList.class, Comparable.class, AccessHelperTest.Base.class, boolean.class
+        };
+
+    /**
+     * Number of warm up rounds.
+     */
+    private static final int WARMUP = 5;
+
+    /**
+     * Number of scan loops per round.
+     */
+    private static final int ROUNDS = 200;
+
+    /**
+     * Hidden constructor.
+     */
+    private AssignableBenchmark() {
+    }
+
+    /**
+     * Check class assignability using the former name based check.
+     *
+     * @param   base  base class type.
+     * @param   ref   reference class type.
+     *
+     * @return  whether given base class type is assignable to given reference class type.
+     */
+    private static boolean legacy(Class<?> base, Class<?> ref) {
+        if (ref == null) {
+            return true;
+        } else if (base.equals(ref)) {
+            return true;
+        } else if (base.isAssignableFrom(ref)) {
+            return true;
+        } else if (base.isPrimitive()) {
+            return BOX_MAP.get(base.getSimpleName()).equals(ref);
+        } else if (ref.isPrimitive()) {
+            return BOX_MAP.get(ref.getSimpleName()).equals(base);
+        }
+        return false;
+    }
+
+    /**
+     * Check class assignability using a concurrent memo of class type pairs.
+     *
+     * @param   base  base class type.
+     * @param   ref   reference class type.
+     *
+     * @return  whether given base class type is assignable to given reference class type.
+     */
+    private static boolean memo(Class<?> base, Class<?> ref) {
+        List<Class<?>> key = Arrays.<Class<?>>asList(base, ref);
+        Boolean result = MEMO.get(key);
+        if (result == null) {
+            result = AccessHelper.Classes.assignable(base, ref);
+            MEMO.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Create class type pair workload of field and method resolution scan loops.
+     *
+     * @return  list of base and reference class type pairs.
+     */
+    private static List<Class<?>[]> workload() {
+        List<Class<?>[]> pairs = new ArrayList<Class<?>[]>();
+        for (Class<?> owner : OWNERS) {
+            for (Class<?> arg : ARGUMENTS) {
+                for (Field field : owner.getDeclaredFields()) {
+                    pairs.add(new Class<?>[] { field.getType(), arg });
+                }
+                for (Method method : owner.getDeclaredMethods()) {
+                    for (Class<?> ptype : method.getParameterTypes()) {
+                        pairs.add(new Class<?>[] { ptype, arg });
+                    }
+                    pairs.add(new Class<?>[] { method.getReturnType(), arg });
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Count assignable class type pairs of given list of class type pairs using the given class
+     * assignability check variant (0: former, 1: memo, 2: actual).
+     *
+     * @param   pairs    list of base and reference class type pairs.
+     * @param   variant  class assignability check variant.
+     *
+     * @return  number of assignable class type pairs.
+     */
+    private static int count(List<Class<?>[]> pairs, int variant) {
+        int count = 0;
+        if (variant == 0) {
+            for (Class<?>[] pair : pairs) {
+                count += AssignableBenchmark.legacy(pair[0], pair[1]) ? 1 : 0;
+            }
+        } else if (variant == 1) {
+            for (Class<?>[] pair : pairs) {
+                count += AssignableBenchmark.memo(pair[0], pair[1]) ? 1 : 0;
+            }
+        } else {
+            for (Class<?>[] pair : pairs) {
+                count += AccessHelper.Classes.assignable(pair[0], pair[1]) ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count fields and methods found by the field and method resolution scan loops for all class
+     * types and argument class types of the workload.
+     *
+     * @return  number of resolved fields and methods.
+     */
+    private static int resolve() {
+        int count = 0;
+        for (Class<?> owner : OWNERS) {
+            for (Class<?> arg : ARGUMENTS) {
+                count += AccessHelper.Fields.resolve(owner, (List<String>) null, arg,
+                        AccessHelper.Resolve.Type.SUPER).size();
+                count += AccessHelper.Fields.resolve(owner, (List<String>) null, arg,
+                        AccessHelper.Resolve.Type.CHILD).size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Measure average loop time in nano seconds over given class type pairs using the given class
+     * assignability check variant (0: former, 1: memo, 2: actual, 3: resolution scan loops).
+     *
+     * @param   pairs    list of base and reference class type pairs.
+     * @param   variant  class assignability check variant.
+     *
+     * @return  average loop time in nano seconds.
+     */
+    private static long measure(List<Class<?>[]> pairs, int variant) {
+        int count = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            count += (variant < 3) ? AssignableBenchmark.count(pairs, variant) : AssignableBenchmark.resolve();
+        }
+        long time = System.nanoTime() - start;
+        if (count < 0) {
+            throw new IllegalStateException("invalid count [" + count + "]");
+        }
+        return time / ROUNDS;
+    }
+
+    /**
+     * Run class assignability benchmark.
+     *
+     * @param  args  ignored program arguments.
+     */
+    public static void main(String[] args) {
+        List<Class<?>[]> pairs = AssignableBenchmark.workload();
+        for (Class<?>[] pair : pairs) {
+            boolean expect = AssignableBenchmark.legacy(pair[0], pair[1]);
+            if ((expect != AccessHelper.Classes.assignable(pair[0], pair[1]))
+                    || (expect != AssignableBenchmark.memo(pair[0], pair[1]))) {
+                throw new IllegalStateException("results differ [" + Arrays.asList(pair) + "]");
+            }
+        }
+        for (int round = 0; round < WARMUP; round++) {
+            for (int variant = 0; variant < 4; variant++) {
+                AssignableBenchmark.measure(pairs, variant);
+            }
+        }
+        System.out.println("pairs\tformer[ns]\tmemo[ns]\tactual[ns]\tresolve[ns]");
+        System.out.println(pairs.size() + "\t" + AssignableBenchmark.measure(pairs, 0) + "\t"
+            + AssignableBenchmark.measure(pairs, 1) + "\t" + AssignableBenchmark.measure(pairs, 2) + "\t"
+            + AssignableBenchmark.measure(pairs, 3));
+    }
+}
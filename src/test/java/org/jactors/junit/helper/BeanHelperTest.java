@@ -1,9 +1,14 @@
 package org.jactors.junit.helper;
 
+import java.lang.ref.Reference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.jcip.annotations.NotThreadSafe;
 
@@ -35,6 +40,7 @@ import org.junit.runners.Suite;
     {
         BeanHelperTest.PropertyBehavior.class,
         BeanHelperTest.AccessorBehavior.class,
+        BeanHelperTest.EvaluatorBehavior.class,
     }
 )
 public class BeanHelperTest implements EnumTest.Unknown {
@@ -394,6 +400,7 @@ public class BeanHelperTest implements EnumTest.Unknown {
             AccessorBehavior.BeanTheory.class,
             AccessorBehavior.ObjectTheory.class,
             AccessorBehavior.DefaultBehavior.class,
+            AccessorBehavior.DirectBehavior.class,
             AccessorBehavior.ComplexBehavior.class
         }
     )
@@ -794,6 +801,194 @@ public class BeanHelperTest implements EnumTest.Unknown {
             }
         }
 
+        /**
+         * Check bean property accessor behavior using generated direct property access.
+         */
+        @RunWith(BlockJUnit4ClassRunner.class)
+        public static final class DirectBehavior {
+
+            /**
+             * Activate expectation rule.
+             */
+            @Rule
+            public ExpectRule expect = new ExpectRule();
+
+            /**
+             * Public test bean supporting direct property access.
+             */
+            public static final class Bean {
+
+                /**
+                 * Public long value.
+                 */
+                public long value;
+
+                /**
+                 * Private integer count.
+                 */
+                private int count;
+
+                /**
+                 * Return integer count.
+                 *
+                 * @return  integer count.
+                 */
+                public int getCount() {
+                    return this.count;
+                }
+
+                /**
+                 * Change integer count.
+                 *
+                 * @param  count  integer count.
+                 */
+                public void setCount(int count) {
+                    if (count < 0) {
+                        throw new IllegalArgumentException("not allowed [" + count + "]");
+                    }
+                    this.count = count;
+                }
+
+                /**
+                 * Return read-only name.
+                 *
+                 * @return  read-only name.
+                 */
+                public String getName() {
+                    return "bean";
+                }
+            }
+
+            /**
+             * Test writing and reading by public field.
+             */
+            @Test
+            public void writeReadByField() {
+                BeanHelper.Accessor<Long> accessor = BeanHelper.create(Bean.class, //
+                        BeanHelper.create(long.class, "value"));
+                Bean bean = new Bean();
+                Assert.assertThat(AccessHelper.Fields.get(accessor, "direct"), CoreMatchers.notNullValue());
+                Assert.assertThat(accessor.write(bean, 1L), CoreMatchers.is(0L));
+                Assert.assertThat(accessor.read(bean), CoreMatchers.is(1L));
+                Assert.assertThat(bean.value, CoreMatchers.is(1L));
+            }
+
+            /**
+             * Test writing and reading by public getter and setter.
+             */
+            @Test
+            public void writeReadByGetterSetter() {
+                BeanHelper.Accessor<Integer> accessor = BeanHelper.create(Bean.class, //
+                        BeanHelper.create(int.class, "count"));
+                Bean bean = new Bean();
+                Assert.assertThat(AccessHelper.Fields.get(accessor, "direct"), CoreMatchers.notNullValue());
+                Assert.assertThat(accessor.write(bean, 1), CoreMatchers.is(0));
+                Assert.assertThat(accessor.read(bean), CoreMatchers.is(1));
+                Assert.assertThat(bean.getCount(), CoreMatchers.is(1));
+            }
+
+            /**
+             * Test caching of direct property access per class type and property.
+             */
+            @Test
+            public void createCached() {
+                BeanHelper.Property<Integer> property = BeanHelper.create(int.class, "count");
+                Assert.assertThat(AccessHelper.Fields.get(BeanHelper.create(Bean.class, property), "direct"),
+                    CoreMatchers.sameInstance(
+                        AccessHelper.Fields.get(BeanHelper.create(Bean.class, property), "direct")));
+            }
+
+            /**
+             * Test reuse of generated direct property access after clearing the cache.
+             */
+            @Test
+            public void createClearedCached() {
+                BeanHelper.Property<Integer> property = BeanHelper.create(int.class, "count");
+                Object direct = AccessHelper.Fields.get(BeanHelper.create(Bean.class, property), "direct");
+                AccessHelper.Cache<?> cache = AccessHelper.Fields.get(direct.getClass(), "CACHE");
+                Map<Object, Map<Object, Reference<?>>> map = AccessHelper.Fields.get(cache, "map");
+                for (Map<Object, Reference<?>> values : map.values()) {
+                    for (Reference<?> value : values.values()) {
+                        value.clear();
+                    }
+                }
+                Assert.assertThat(AccessHelper.Fields.get(BeanHelper.create(Bean.class, property), "direct"),
+                    CoreMatchers.sameInstance(direct));
+            }
+
+            /**
+             * Test generated direct property access without update for read-only property.
+             */
+            @Test
+            public void createReadOnly() {
+                BeanHelper.Accessor<String> accessor = BeanHelper.create(Bean.class, //
+                        BeanHelper.create(String.class, "name"));
+                Object direct = AccessHelper.Fields.get(accessor, "direct");
+                Assert.assertThat(direct, CoreMatchers.notNullValue());
+                Assert.assertThat(AccessHelper.Fields.get(direct, "access"), CoreMatchers.not(
+                        CoreMatchers.instanceOf(BeanHelper.Accessor.Update.class)));
+                Assert.assertThat(accessor.read(new Bean()), CoreMatchers.is("bean"));
+            }
+
+            /**
+             * Test sharing of accessor class loader per class loader of declaring class type.
+             */
+            @Test
+            public void createSharedLoader() {
+                Object value = AccessHelper.Fields.get(BeanHelper.create(Bean.class, //
+                            BeanHelper.create(long.class, "value")), "direct");
+                Object count = AccessHelper.Fields.get(BeanHelper.create(Bean.class, //
+                            BeanHelper.create(int.class, "count")), "direct");
+                Assert.assertThat(AccessHelper.Fields.get(value, "access").getClass().getClassLoader(),
+                    CoreMatchers.sameInstance(AccessHelper.Fields.get(count, "access").getClass().getClassLoader()));
+            }
+
+            /**
+             * Test fallback to reflective access for non-public class type.
+             */
+            @Test
+            public void createFallback() {
+                BeanHelper.Accessor<Long> accessor = BeanHelper.create(Base.class, //
+                        BeanHelper.create(long.class, "value"));
+                Base base = new Base(0, 0);
+                Assert.assertThat(AccessHelper.Fields.get(accessor, "direct"), CoreMatchers.nullValue());
+                Assert.assertThat(accessor.write(base, 1L), CoreMatchers.is(0L));
+                Assert.assertThat(accessor.read(base), CoreMatchers.is(1L));
+            }
+
+            /**
+             * Test target failure propagation on setter.
+             *
+             * @throws  Throwable  what ever failure happens.
+             */
+            @Test(expected = IllegalArgumentException.class)
+            @Expect(message = "not allowed [-1]")
+            public void setTargetFailure() throws Throwable {
+                BeanHelper.create(Bean.class, BeanHelper.create(int.class, "count")).set(new Bean(), -1);
+            }
+
+            /**
+             * Test target failure wrapping on setter.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            @Expect(
+                message = "invocation target failure [target=",
+                matcher = Expect.Matcher.STARTS_WITH,
+                cause = @Expect.Cause(type = IllegalArgumentException.class, message = "not allowed [-1]")
+            )
+            public void writeTargetFailure() {
+                BeanHelper.create(Bean.class, BeanHelper.create(int.class, "count")).write(new Bean(), -1);
+            }
+
+            /**
+             * Test reflective access for incompatible target object.
+             */
+            @Test(expected = AccessHelper.Failure.class)
+            public void readInvalidTarget() {
+                BeanHelper.create(Bean.class, BeanHelper.create(long.class, "value")).read(new Object());
+            }
+        }
+
         /**
          * Check complex bean property accessor creation and write behavior.
          *
@@ -879,4 +1074,170 @@ public class BeanHelperTest implements EnumTest.Unknown {
             }
         }
     }
+
+    /**
+     * Check property path evaluator behavior using generated property path walkers.
+     */
+    @FixMethodOrder(MethodSorters.JVM)
+    @RunWith(BlockJUnit4ClassRunner.class)
+    public static final class EvaluatorBehavior {
+
+        /**
+         * Public test order bean.
+         */
+        public static class Order {
+
+            /**
+             * Public order codes.
+             */
+            public int[] codes = new int[] { 1, 2, 3 };
+
+            /**
+             * Public order attributes.
+             */
+            public Map<String, String> attributes = new HashMap<String, String>();
+
+            /**
+             * Order lines.
+             */
+            private List<Line> lines = new ArrayList<Line>();
+
+            /**
+             * Return order lines.
+             *
+             * @return  order lines.
+             */
+            public List<Line> getLines() {
+                return this.lines;
+            }
+        }
+
+        /**
+         * Public test order bean subclass.
+         */
+        public static final class Special extends Order {
+        }
+
+        /**
+         * Public test order line bean.
+         */
+        public static final class Line {
+
+            /**
+             * Public line amount.
+             */
+            public double amount;
+
+            /**
+             * Line name.
+             */
+            private String name;
+
+            /**
+             * Create order line with given line name and line amount.
+             *
+             * @param  name    line name.
+             * @param  amount  line amount.
+             */
+            public Line(String name, double amount) {
+                this.name = name;
+                this.amount = amount;
+            }
+
+            /**
+             * Return line name.
+             *
+             * @return  line name.
+             */
+            public String getName() {
+                return this.name;
+            }
+
+            /**
+             * Change line name.
+             *
+             * @param  name  line name.
+             */
+            public void setName(String name) {
+                this.name = name;
+            }
+        }
+
+        /**
+         * Create test order with two order lines.
+         *
+         * @param   order  empty test order.
+         *
+         * @return  test order.
+         */
+        private static Order order(Order order) {
+            order.getLines().addAll(Arrays.asList(new Line("a", 1.5d), new Line("b", 2.5d)));
+            return order;
+        }
+
+        /**
+         * Test read and write via generated property path walker.
+         */
+        @Test
+        public void readWriteCompiled() {
+            Order order = EvaluatorBehavior.order(new Order());
+            BeanHelper.Evaluator amount = BeanHelper.compile(Order.class, "lines[1].amount");
+            BeanHelper.Evaluator name = BeanHelper.compile(Order.class, "lines.0.name");
+            BeanHelper.Evaluator code = BeanHelper.compile(Order.class, "codes.2");
+            Assert.assertThat(amount.compiled() && name.compiled() && code.compiled(), CoreMatchers.is(true));
+            Assert.assertThat(amount.<Double>read(order), CoreMatchers.is(2.5d));
+            Assert.assertThat(amount.write(order, 3.5d), CoreMatchers.is(2.5d));
+            Assert.assertThat(order.getLines().get(1).amount, CoreMatchers.is(3.5d));
+            Assert.assertThat(name.write(order, "c"), CoreMatchers.is("a"));
+            Assert.assertThat(name.<String>read(order), CoreMatchers.is("c"));
+            Assert.assertThat(code.write(order, 4), CoreMatchers.is(3));
+            Assert.assertThat(code.<Integer>read(order), CoreMatchers.is(4));
+            Assert.assertThat(BeanHelper.compile(Order.class, "lines.1"), CoreMatchers.sameInstance(
+                    BeanHelper.compile(Order.class, "lines.1")));
+        }
+
+        /**
+         * Test fallback to interpreting property path if type or bounds checks fail.
+         */
+        @Test
+        public void readWriteFallback() {
+            BeanHelper.Evaluator amount = BeanHelper.compile(Order.class, "lines.1.amount");
+            Order special = EvaluatorBehavior.order(new Special());
+            Assert.assertThat(amount.<Double>read(special), CoreMatchers.is(2.5d));
+            Assert.assertThat(amount.write(special, 1d), CoreMatchers.is(2.5d));
+            Assert.assertThat(special.getLines().get(1).amount, CoreMatchers.is(1d));
+            BeanHelper.Evaluator attribute = BeanHelper.compile(Order.class, "attributes.key");
+            Order order = new Order();
+            Assert.assertThat(attribute.compiled(), CoreMatchers.is(false));
+            Assert.assertThat(attribute.write(order, "value"), CoreMatchers.nullValue());
+            Assert.assertThat(attribute.<String>read(order), CoreMatchers.is("value"));
+        }
+
+        /**
+         * Test indexes with leading zeros are decoded the same way as by interpreting property path.
+         */
+        @Test
+        public void readLeadingZeros() {
+            Order order = new Order();
+            order.codes = new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 };
+            for (String path : new String[] { "codes.010", "codes.07", "codes.0", "codes.10" }) {
+                Assert.assertThat(BeanHelper.compile(Order.class, path).<Integer>read(order),
+                    CoreMatchers.is(AccessHelper.Beans.<Integer>read(order, path)));
+            }
+            Assert.assertThat(BeanHelper.compile(Order.class, "codes.010").compiled(), CoreMatchers.is(false));
+            Assert.assertThat(BeanHelper.compile(Order.class, "codes.10").compiled(), CoreMatchers.is(true));
+        }
+
+        /**
+         * Test index out of bounds failure reported by interpreting property path.
+         */
+        @Test(expected = AccessHelper.Failure.class)
+        @Expect(
+            message = "index out of bounds [index=5, size=3]",
+            matcher = Expect.Matcher.CONTAINS
+        )
+        public void readOutOfBounds() {
+            BeanHelper.compile(Order.class, "codes.5").read(new Order());
+        }
+    }
 }
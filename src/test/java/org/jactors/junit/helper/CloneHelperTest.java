@@ -0,0 +1,332 @@
+package org.jactors.junit.helper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import org.hamcrest.CoreMatchers;
+import org.jactors.junit.helper.AccessHelperTest.Base;
+import org.jactors.junit.helper.AccessHelperTest.Child;
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.MethodSorters;
+import org.junit.runners.Suite;
+
+/**
+ * Clone helper test suite.
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses(
+    {
+        CloneHelperTest.CloneBehavior.class,
+        CloneHelperTest.CopyBehavior.class
+    }
+)
+public class CloneHelperTest {
+
+    /**
+     * Not serializable node with cyclic references and primitive values.
+     */
+    private static final class Node {
+
+        /**
+         * Node name.
+         */
+        private final String name;
+
+        /**
+         * Node weight.
+         */
+        private final double weight;
+
+        /**
+         * Node flags.
+         */
+        private final int[] flags;
+
+        /**
+         * Next node (may be null).
+         */
+        private Node next;
+
+        /**
+         * Create node with given node name and node weight.
+         *
+         * @param  name    node name.
+         * @param  weight  node weight.
+         */
+        public Node(String name, double weight) {
+            this.name = name;
+            this.weight = weight;
+            this.flags = new int[] { 1, 2, 3 };
+        }
+    }
+
+    /**
+     * Node comparator by node weight.
+     */
+    private static final class Weight implements Comparator<Node> {
+
+        /**
+         * {@inheritDoc}
+         */
+        public int compare(Node one, Node two) {
+            return Double.compare(one.weight, two.weight);
+        }
+    }
+
+    /**
+     * Named list of bases.
+     */
+    private static final class Named extends ArrayList<Base> {
+
+        /**
+         * Serial version unique identifier.
+         */
+        private static final long serialVersionUID = 4162815502375260193L;
+
+        /**
+         * List name.
+         */
+        private String name;
+    }
+
+    /**
+     * Check clone helper serialization behavior.
+     */
+    @FixMethodOrder(MethodSorters.JVM)
+    @RunWith(BlockJUnit4ClassRunner.class)
+    public static final class CloneBehavior {
+
+        /**
+         * Test clone serializable object via serialization round trip.
+         *
+         * @throws  IOException             if any I/O problem occurs on the stream.
+         * @throws  ClassNotFoundException  if class cannot be found.
+         */
+        @Test
+        public void cloneSerializable() throws IOException, ClassNotFoundException {
+            Child child = new Child(new Base(1L, 2));
+            Child clone = CloneHelper.clone(child);
+            Assert.assertThat(clone, CoreMatchers.not(CoreMatchers.sameInstance(child)));
+            Assert.assertThat(clone, CoreMatchers.equalTo(child));
+        }
+
+        /**
+         * Test clone serializable objects repeatedly reusing the serialization buffer.
+         *
+         * @throws  IOException             if any I/O problem occurs on the stream.
+         * @throws  ClassNotFoundException  if class cannot be found.
+         */
+        @Test
+        public void cloneRepeated() throws IOException, ClassNotFoundException {
+            for (int count = 0; count < 3; count++) {
+                List<Object> list = new ArrayList<Object>();
+                list.add(new Base(count, count));
+                list.add(new String[] { "a", String.valueOf(count) });
+                list.add(AccessHelper.Failure.Type.ARGUMENT);
+                List<Object> clone = CloneHelper.clone(list);
+                Assert.assertThat(clone.get(0), CoreMatchers.equalTo(list.get(0)));
+                Assert.assertThat(clone.get(1), CoreMatchers.equalTo(list.get(1)));
+                Assert.assertThat(clone.get(2), CoreMatchers.sameInstance(list.get(2)));
+            }
+        }
+
+        /**
+         * Test clone serializable object via serialization streamed through memory mapped file.
+         *
+         * @throws  IOException             if any I/O problem occurs on the stream.
+         * @throws  ClassNotFoundException  if class cannot be found.
+         */
+        @Test
+        public void cloneStreamed() throws IOException, ClassNotFoundException {
+            List<Base> list = new ArrayList<Base>();
+            for (int count = 0; count < 10000; count++) {
+                list.add(new Base(count, count));
+            }
+            CloneHelper.Trip<List<Base>> trip = CloneHelper.stream(list);
+            Assert.assertThat(trip.value(), CoreMatchers.not(CoreMatchers.sameInstance(list)));
+            Assert.assertThat(trip.value(), CoreMatchers.equalTo(list));
+            Assert.assertThat(trip.size() > 10000, CoreMatchers.is(true));
+            Assert.assertThat(trip.time() > 0, CoreMatchers.is(true));
+            Assert.assertThat(trip.toString(), CoreMatchers.startsWith("round trip [size=" + trip.size() + ", time="));
+        }
+
+        /**
+         * Test serialized size of streamed round trip excludes class descriptors.
+         *
+         * @throws  IOException             if any I/O problem occurs on the stream.
+         * @throws  ClassNotFoundException  if class cannot be found.
+         */
+        @Test
+        public void cloneStreamedSize() throws IOException, ClassNotFoundException {
+            Base base = new Base(1, 2);
+            ByteArrayOutputStream bout = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(bout);
+            out.writeObject(base);
+            out.close();
+            Assert.assertThat(CloneHelper.stream(base).size() < bout.size(), CoreMatchers.is(true));
+        }
+
+        /**
+         * Test reading file content from multiple consecutive memory mappings.
+         *
+         * @throws  IOException  if any I/O problem occurs on the stream.
+         */
+        @Test
+        public void streamMapped() throws IOException {
+            File file = File.createTempFile("mapped-", ".bin");
+            RandomAccessFile access = new RandomAccessFile(file, "rw");
+            try {
+                byte[] bytes = new byte[20];
+                for (int index = 0; index < bytes.length; index++) {
+                    bytes[index] = (byte) index;
+                }
+                access.write(bytes);
+                CloneHelper.Mapped mapped = new CloneHelper.Mapped(access.getChannel(), bytes.length, 7);
+                byte[] read = new byte[bytes.length];
+                read[0] = (byte) mapped.read();
+                int offset = 1;
+                while (offset < read.length) {
+                    int count = mapped.read(read, offset, read.length - offset);
+                    Assert.assertThat((count > 0) && (count <= 7), CoreMatchers.is(true));
+                    offset += count;
+                }
+                Assert.assertThat(read, CoreMatchers.equalTo(bytes));
+                Assert.assertThat(mapped.read(), CoreMatchers.is(-1));
+                mapped.close();
+                Assert.assertThat(mapped.available(), CoreMatchers.is(0));
+            } finally {
+                access.close();
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Check clone helper deep copy behavior.
+     */
+    @FixMethodOrder(MethodSorters.JVM)
+    @RunWith(BlockJUnit4ClassRunner.class)
+    public static final class CopyBehavior {
+
+        /**
+         * Test deep copy of object graph with nested objects.
+         */
+        @Test
+        public void copyGraph() {
+            Child child = new Child(new Base(1L, 2));
+            Child copy = CloneHelper.copy(child);
+            Assert.assertThat(copy, CoreMatchers.not(CoreMatchers.sameInstance(child)));
+            Assert.assertThat(copy, CoreMatchers.equalTo(child));
+            Assert.assertThat(CloneHelper.copy(null), CoreMatchers.nullValue());
+            Assert.assertThat(CloneHelper.copy("value"), CoreMatchers.sameInstance("value"));
+        }
+
+        /**
+         * Test deep copy of not serializable objects with cycles and primitive arrays.
+         */
+        @Test
+        public void copyCycles() {
+            Node node = new Node("a", 1.5d);
+            node.next = new Node("b", 2.5d);
+            node.next.next = node;
+            Node copy = CloneHelper.copy(node);
+            Assert.assertThat(copy, CoreMatchers.not(CoreMatchers.sameInstance(node)));
+            Assert.assertThat(copy.next.next, CoreMatchers.sameInstance(copy));
+            Assert.assertThat(copy.next.name, CoreMatchers.is("b"));
+            Assert.assertThat(copy.next.weight, CoreMatchers.is(2.5d));
+            Assert.assertThat(copy.flags, CoreMatchers.not(CoreMatchers.sameInstance(node.flags)));
+            Assert.assertThat(copy.flags, CoreMatchers.equalTo(node.flags));
+        }
+
+        /**
+         * Test deep copy of collections and maps keeping shared references and hash structures.
+         */
+        @Test
+        public void copyContainers() {
+            Object key = new Object();
+            Map<Object, List<Base>> map = new HashMap<Object, List<Base>>();
+            List<Base> list = new ArrayList<Base>();
+            list.add(new Base(1L, 1));
+            list.add(list.get(0));
+            map.put(key, list);
+            Map<Object, List<Base>> copy = CloneHelper.copy(map);
+            Object ckey = copy.keySet().iterator().next();
+            Assert.assertThat(ckey, CoreMatchers.not(CoreMatchers.sameInstance(key)));
+            Assert.assertThat(copy.get(ckey), CoreMatchers.equalTo(list));
+            Assert.assertThat(copy.get(ckey).get(1), CoreMatchers.sameInstance(copy.get(ckey).get(0)));
+
+            TreeMap<String, Long> tree = new TreeMap<String, Long>(Collections.reverseOrder());
+            tree.put("a", 1L);
+            tree.put("b", 2L);
+            Assert.assertThat(CloneHelper.copy(tree).firstKey(), CoreMatchers.is("b"));
+        }
+
+        /**
+         * Test deep copy of collection subclass with own fields.
+         */
+        @Test
+        public void copyContainerSubclass() {
+            Named named = new Named();
+            named.name = "list";
+            named.add(new Base(1L, 1));
+            Named copy = CloneHelper.copy(named);
+            Assert.assertThat(copy.name, CoreMatchers.is("list"));
+            Assert.assertThat(copy, CoreMatchers.equalTo(named));
+            Assert.assertThat(copy.get(0), CoreMatchers.not(CoreMatchers.sameInstance(named.get(0))));
+        }
+
+        /**
+         * Test deep copy of access ordered linked hash map keeping access order and hash structure.
+         */
+        @Test
+        public void copyAccessOrdered() {
+            Map<Object, String> map = new LinkedHashMap<Object, String>(16, 0.75f, true);
+            Object key = new Object();
+            map.put(key, "a");
+            map.put(new Object(), "b");
+            map.put(new Object(), "c");
+            map.get(key);
+            Map<Object, String> copy = CloneHelper.copy(map);
+            Assert.assertThat(new ArrayList<String>(copy.values()), CoreMatchers.is(Arrays.asList("b", "c", "a")));
+            Assert.assertThat(copy.get(copy.keySet().iterator().next()), CoreMatchers.is("b"));
+            Assert.assertThat(new ArrayList<String>(copy.values()), CoreMatchers.is(Arrays.asList("c", "a", "b")));
+        }
+
+        /**
+         * Test deep copy of priority queues with comparator over not comparable elements.
+         */
+        @Test
+        public void copyPriorityQueue() {
+            Queue<Node> queue = new PriorityQueue<Node>(3, new Weight());
+            queue.add(new Node("b", 2d));
+            queue.add(new Node("a", 1d));
+            Queue<Node> blocking = new PriorityBlockingQueue<Node>(3, new Weight());
+            blocking.addAll(queue);
+            for (Queue<Node> copy : Arrays.asList(CloneHelper.copy(queue), CloneHelper.copy(blocking))) {
+                copy.add(new Node("c", 0d));
+                Assert.assertThat(copy.poll().name, CoreMatchers.is("c"));
+                Assert.assertThat(copy.poll().name, CoreMatchers.is("a"));
+                Assert.assertThat(copy.poll().name, CoreMatchers.is("b"));
+            }
+        }
+    }
+}
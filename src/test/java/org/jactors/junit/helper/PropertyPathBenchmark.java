@@ -0,0 +1,157 @@
+package org.jactors.junit.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Property path parser benchmark comparing the single pass property path scanner with the former
+ * regular expression based property path parser for increasing property path lengths. Both parsers
+ * split the same property paths into the same lists of path segment names, while the creation of
+ * path segments from the names is shared by both and therefore not measured. The benchmark is a
+ * plain main program, since it is not meant to be run by the unit test suite:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.jactors.junit.helper.PropertyPathBenchmark
+ * </pre>
+ */
+public final class PropertyPathBenchmark {
+
+    /**
+     * Group index of bean path of former property path pattern.
+     */
+    private static final int PATH_BEAN = 1;
+
+    /**
+     * Group index of list path of former property path pattern.
+     */
+    private static final int PATH_LIST = 4;
+
+    /**
+     * Former pattern for matching property path.
+     */
+    private static final Pattern PATH = //
+        Pattern.compile("\\(?((?<=\\()[^=,]*=[^\\)]+(?=\\))|([^=,]+=)?[^.,\\(\\)\\[\\]]+)\\)?"
+            + "((?<!\\\\)\\[(.*?)?(?<!\\\\)\\](?!\\[))*+(\\.|,)?");
+
+    /**
+     * Former pattern for splitting list path.
+     */
+    private static final Pattern LIST = Pattern.compile("(?<!\\\\)(,|\\]\\[)");
+
+    /**
+     * Property path elements used to build property paths of increasing length.
+     */
+    private static final String[] ELEMENTS = new String[] {
+            "bean", "java.lang.Object=value", "(java.util.Map=key.name)", "list[0,1][2]", "map[a\\,b,c]"
+        };
+
+    /**
+     * Number of warm up rounds.
+     */
+    private static final int WARMUP = 5;
+
+    /**
+     * Number of parsed property paths per round and length.
+     */
+    private static final int ROUNDS = 20000;
+
+    /**
+     * Hidden constructor.
+     */
+    private PropertyPathBenchmark() {
+    }
+
+    /**
+     * Parse given property path using the former regular expression based property path parser.
+     *
+     * @param   path  property path string.
+     *
+     * @return  list of path segment names.
+     */
+    private static List<String> legacy(String path) {
+        List<String> segments = new ArrayList<String>();
+        Matcher matcher = PATH.matcher(path);
+        while (matcher.find()) {
+            segments.add(matcher.group(PATH_BEAN));
+            if (matcher.group(PATH_LIST) == null) {
+                continue;
+            }
+            for (String sname : LIST.split(matcher.group(PATH_LIST))) {
+                if (!sname.isEmpty()) {
+                    segments.add(sname);
+                }
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Create property path with given number of property path elements.
+     *
+     * @param   length  number of property path elements.
+     *
+     * @return  property path string.
+     */
+    private static String path(int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < length; index++) {
+            builder.append((index == 0) ? "" : ".").append(ELEMENTS[index % ELEMENTS.length]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Measure average time in nano seconds to split given property path into path segment names
+     * using either the former or the actual property path parser.
+     *
+     * @param   path    property path string.
+     * @param   legacy  whether to use the former property path parser.
+     *
+     * @return  average parse time in nano seconds.
+     */
+    private static long measure(String path, boolean legacy) {
+        int count = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            count += legacy ? PropertyPathBenchmark.legacy(path).size()
+                            : AccessHelper.Beans.PropertyPath.scan(path).size();
+        }
+        long time = System.nanoTime() - start;
+        if (count == 0) {
+            throw new IllegalStateException("no segments [" + path + "]");
+        }
+        return time / ROUNDS;
+    }
+
+    /**
+     * Run property path parser benchmark.
+     *
+     * @param  args  ignored program arguments.
+     */
+    public static void main(String[] args) {
+        int[] lengths = new int[] { 1, 4, 16, 64, 256 };
+        for (int length : lengths) {
+            String path = PropertyPathBenchmark.path(length);
+            List<String> expect = PropertyPathBenchmark.legacy(path);
+            List<String> actual = AccessHelper.Beans.PropertyPath.scan(path);
+            if (!expect.equals(actual)) {
+                throw new IllegalStateException("segments differ [" + expect + ", " + actual + "]");
+            }
+        }
+        for (int round = 0; round < WARMUP; round++) {
+            for (int length : lengths) {
+                PropertyPathBenchmark.measure(PropertyPathBenchmark.path(length), true);
+                PropertyPathBenchmark.measure(PropertyPathBenchmark.path(length), false);
+            }
+        }
+        System.out.println("length\tchars\tregex[ns]\tscanner[ns]");
+        for (int length : lengths) {
+            String path = PropertyPathBenchmark.path(length);
+            System.out.println(length + "\t" + path.length() + "\t" + PropertyPathBenchmark.measure(path, true)
+                + "\t" + PropertyPathBenchmark.measure(path, false));
+        }
+    }
+}